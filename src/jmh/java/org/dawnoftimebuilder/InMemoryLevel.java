@@ -0,0 +1,327 @@
+package org.dawnoftimebuilder;
+
+import com.mojang.serialization.Lifecycle;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.*;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.data.worldgen.BootstapContext;
+import net.minecraft.data.worldgen.DimensionTypes;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.damagesource.DamageType;
+import net.minecraft.world.damagesource.DamageTypes;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.flag.FeatureFlags;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkSource;
+import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.entity.LevelEntityGetter;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.common.crafting.conditions.ICondition;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.scores.Scoreboard;
+import net.minecraft.world.ticks.BlackholeTickAccess;
+import net.minecraft.world.ticks.LevelTickAccess;
+import net.minecraft.world.ticks.TickPriority;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A Level for the benchmarks, with the height of the overworld, that only holds BlockStates in a map. Every position that
+ * has not been set is air, and every position is loaded and lit by the sky.<p/>
+ * {@link #setBlock(BlockPos, BlockState, int, int)} follows the vanilla order : onRemove and onPlace of the BlockStates,
+ * then the neighbour updates and the shape updates asked by the flags. The scheduled ticks are only recorded, since the
+ * ticks of the blocks need a ServerLevel. The only block entities are the ones added with {@link #setBlockEntity(BlockEntity)},
+ * and the only recipes are the ones given to {@link #getRecipeManager()}. The calls that need chunks, entities or a server
+ * throw an UnsupportedOperationException, so that a benchmark can't silently measure a path that needs a real world.
+ */
+public class InMemoryLevel extends Level {
+    private final Long2ObjectOpenHashMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<BlockEntity> blockEntities = new Long2ObjectOpenHashMap<>();
+    private final LongArrayList scheduledTicks = new LongArrayList();
+    private final RecipeManager recipeManager = new RecipeManager(ICondition.IContext.EMPTY);
+
+    /**
+     * {@link VanillaBootstrap#init()} must have been called before.
+     */
+    public InMemoryLevel() {
+        super(new ClientLevel.ClientLevelData(Difficulty.NORMAL, false, false), Level.OVERWORLD, BenchmarkRegistries.ACCESS, BenchmarkRegistries.OVERWORLD, () -> InactiveProfiler.INSTANCE, false, false, 0L, 1000000);
+        this.states.defaultReturnValue(Blocks.AIR.defaultBlockState());
+    }
+
+    /**
+     * Sets a BlockState without calling any block or neighbour update, to build the scene of a benchmark.
+     */
+    public void setBlockState(final BlockPos pos, final BlockState state) {
+        if(state.isAir()) {
+            this.states.remove(pos.asLong());
+        } else {
+            this.states.put(pos.asLong(), state);
+        }
+    }
+
+    public void setGameTime(final long gameTime) {
+        ((ClientLevel.ClientLevelData) this.getLevelData()).setGameTime(gameTime);
+    }
+
+    /**
+     * @return The positions of the ticks scheduled since the last call of {@link #clearScheduledTicks()}, packed with
+     * {@link BlockPos#asLong()}.
+     */
+    public LongArrayList getScheduledTicks() {
+        return this.scheduledTicks;
+    }
+
+    public void clearScheduledTicks() {
+        this.scheduledTicks.clear();
+    }
+
+    @Override
+    public BlockState getBlockState(final BlockPos pos) {
+        if(this.isOutsideBuildHeight(pos)) {
+            return Blocks.VOID_AIR.defaultBlockState();
+        }
+        return this.states.get(pos.asLong());
+    }
+
+    @Override
+    public FluidState getFluidState(final BlockPos pos) {
+        return this.getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public boolean setBlock(final BlockPos pos, final BlockState state, final int flags, final int recursionLeft) {
+        if(this.isOutsideBuildHeight(pos)) {
+            return false;
+        }
+        final BlockState oldState = state.isAir() ? this.states.remove(pos.asLong()) : this.states.put(pos.asLong(), state);
+        if(oldState == state) {
+            return false;
+        }
+        final boolean isMoving = (flags & Block.UPDATE_MOVE_BY_PISTON) != 0;
+        oldState.onRemove(this, pos, state, isMoving);
+        if(!oldState.is(state.getBlock()) && oldState.hasBlockEntity()) {
+            this.removeBlockEntity(pos);
+        }
+        state.onPlace(this, pos, oldState, isMoving);
+        if((flags & Block.UPDATE_NEIGHBORS) != 0) {
+            this.blockUpdated(pos, oldState.getBlock());
+        }
+        if((flags & Block.UPDATE_KNOWN_SHAPE) == 0 && recursionLeft > 0) {
+            final int shapeFlags = flags & ~(Block.UPDATE_NEIGHBORS | Block.UPDATE_SUPPRESS_DROPS);
+            oldState.updateIndirectNeighbourShapes(this, pos, shapeFlags, recursionLeft - 1);
+            state.updateNeighbourShapes(this, pos, shapeFlags, recursionLeft - 1);
+            state.updateIndirectNeighbourShapes(this, pos, shapeFlags, recursionLeft - 1);
+        }
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(final BlockPos pos) {
+        return this.blockEntities.get(pos.asLong());
+    }
+
+    @Override
+    public void setBlockEntity(final BlockEntity blockEntity) {
+        blockEntity.setLevel(this);
+        blockEntity.clearRemoved();
+        final BlockEntity oldBlockEntity = this.blockEntities.put(blockEntity.getBlockPos().asLong(), blockEntity);
+        if(oldBlockEntity != null && oldBlockEntity != blockEntity) {
+            oldBlockEntity.setRemoved();
+        }
+    }
+
+    @Override
+    public void removeBlockEntity(final BlockPos pos) {
+        final BlockEntity blockEntity = this.blockEntities.remove(pos.asLong());
+        if(blockEntity != null) {
+            blockEntity.setRemoved();
+        }
+    }
+
+    @Override
+    public void blockEntityChanged(final BlockPos pos) {}
+
+    @Override
+    public boolean isLoaded(final BlockPos pos) {
+        return !this.isOutsideBuildHeight(pos);
+    }
+
+    @Override
+    public boolean hasChunk(final int chunkX, final int chunkZ) {
+        return true;
+    }
+
+    @Override
+    public int getBrightness(final LightLayer lightLayer, final BlockPos pos) {
+        return lightLayer == LightLayer.SKY ? 15 : 0;
+    }
+
+    @Override
+    public int getRawBrightness(final BlockPos pos, final int amount) {
+        return 15 - amount;
+    }
+
+    @Override
+    public void scheduleTick(final BlockPos pos, final Block block, final int delay, final TickPriority priority) {
+        this.scheduledTicks.add(pos.asLong());
+    }
+
+    @Override
+    public void scheduleTick(final BlockPos pos, final Block block, final int delay) {
+        this.scheduledTicks.add(pos.asLong());
+    }
+
+    @Override
+    public void scheduleTick(final BlockPos pos, final Fluid fluid, final int delay, final TickPriority priority) {
+        this.scheduledTicks.add(pos.asLong());
+    }
+
+    @Override
+    public void scheduleTick(final BlockPos pos, final Fluid fluid, final int delay) {
+        this.scheduledTicks.add(pos.asLong());
+    }
+
+    @Override
+    public LevelTickAccess<Block> getBlockTicks() {
+        return BlackholeTickAccess.emptyLevelList();
+    }
+
+    @Override
+    public LevelTickAccess<Fluid> getFluidTicks() {
+        return BlackholeTickAccess.emptyLevelList();
+    }
+
+    @Override
+    public void sendBlockUpdated(final BlockPos pos, final BlockState oldState, final BlockState newState, final int flags) {}
+
+    @Override
+    public void playSeededSound(@Nullable final Player player, final double x, final double y, final double z, final Holder<SoundEvent> sound, final SoundSource source, final float volume, final float pitch, final long seed) {}
+
+    @Override
+    public void playSeededSound(@Nullable final Player player, final Entity entity, final Holder<SoundEvent> sound, final SoundSource source, final float volume, final float pitch, final long seed) {}
+
+    @Override
+    public void levelEvent(@Nullable final Player player, final int type, final BlockPos pos, final int data) {}
+
+    @Override
+    public void gameEvent(final GameEvent event, final Vec3 position, final GameEvent.Context context) {}
+
+    @Override
+    public void destroyBlockProgress(final int breakerId, final BlockPos pos, final int progress) {}
+
+    @Override
+    public float getShade(final Direction direction, final boolean shade) {
+        return 1.0F;
+    }
+
+    @Override
+    public List<? extends Player> players() {
+        return List.of();
+    }
+
+    @Override
+    public FeatureFlagSet enabledFeatures() {
+        return FeatureFlags.DEFAULT_FLAGS;
+    }
+
+    @Override
+    public String gatherChunkSourceStats() {
+        return "InMemoryLevel[" + this.states.size() + " blocks, " + this.blockEntities.size() + " block entities]";
+    }
+
+    @Override
+    public ChunkSource getChunkSource() {
+        throw new UnsupportedOperationException("The benchmark level has no chunks");
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(final int x, final int y, final int z) {
+        throw new UnsupportedOperationException("The benchmark level has no biomes");
+    }
+
+    @Nullable
+    @Override
+    public Entity getEntity(final int id) {
+        return null;
+    }
+
+    @Override
+    protected LevelEntityGetter<Entity> getEntities() {
+        throw new UnsupportedOperationException("The benchmark level has no entities");
+    }
+
+    @Nullable
+    @Override
+    public MapItemSavedData getMapData(final String mapName) {
+        return null;
+    }
+
+    @Override
+    public void setMapData(final String mapName, final MapItemSavedData data) {
+        throw new UnsupportedOperationException("The benchmark level has no maps");
+    }
+
+    @Override
+    public int getFreeMapId() {
+        throw new UnsupportedOperationException("The benchmark level has no maps");
+    }
+
+    @Override
+    public Scoreboard getScoreboard() {
+        throw new UnsupportedOperationException("The benchmark level has no scoreboard");
+    }
+
+    @Override
+    public RecipeManager getRecipeManager() {
+        return this.recipeManager;
+    }
+
+    /**
+     * The registries a Level needs to be created : the damage types and the dimension types, built from their vanilla
+     * bootstrap instead of the datapacks.
+     */
+    private static final class BenchmarkRegistries {
+        private static final MappedRegistry<DamageType> DAMAGE_TYPES = create(Registries.DAMAGE_TYPE, DamageTypes::bootstrap);
+        private static final MappedRegistry<DimensionType> DIMENSION_TYPES = create(Registries.DIMENSION_TYPE, DimensionTypes::bootstrap);
+        private static final RegistryAccess ACCESS = new RegistryAccess.ImmutableRegistryAccess(List.of(DAMAGE_TYPES, DIMENSION_TYPES));
+        private static final Holder<DimensionType> OVERWORLD = DIMENSION_TYPES.getHolderOrThrow(BuiltinDimensionTypes.OVERWORLD);
+
+        private static <T> MappedRegistry<T> create(final ResourceKey<? extends Registry<T>> key, final Consumer<BootstapContext<T>> bootstrap) {
+            final MappedRegistry<T> registry = new MappedRegistry<>(key, Lifecycle.stable());
+            bootstrap.accept(new BootstapContext<>() {
+                @Override
+                public Holder.Reference<T> register(final ResourceKey<T> valueKey, final T value, final Lifecycle lifecycle) {
+                    return registry.register(valueKey, value, lifecycle);
+                }
+
+                @Override
+                public <S> HolderGetter<S> lookup(final ResourceKey<? extends Registry<? extends S>> registryKey) {
+                    throw new UnsupportedOperationException("The benchmark registries can't look up " + registryKey);
+                }
+            });
+            return registry;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.dawnoftimebuilder.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.InMemoryLevel;
+import org.dawnoftimebuilder.block.templates.LatticeBlock;
+import org.dawnoftimebuilder.util.BlockStatePropertiesAA.ClimbingPlant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.dawnoftimebuilder.util.BlockStatePropertiesAA.CLIMBING_PLANT;
+
+/**
+ * Random ticks of a wall of lattices, one lattice out of two holding a grape plant : each call ticks every lattice of the
+ * wall once with {@link IBlockClimbingPlant#tickPlant}. The plants grow and spread during an iteration, so the wall is
+ * built again before each iteration, and the random is seeded so that all the runs tick the same plants.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClimbingPlantBenchmark {
+    private static final int SIDE = 16;
+    private static final int BOTTOM_Y = 64;
+
+    private InMemoryLevel level;
+    private LatticeBlock lattice;
+    private BlockPos[] positions;
+    private RandomSource random;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        this.level = new InMemoryLevel();
+        this.lattice = new LatticeBlock(BlockBehaviour.Properties.of());
+        this.positions = new BlockPos[SIDE * SIDE];
+        for(int x = 0; x < SIDE; x++) {
+            for(int y = 0; y < SIDE; y++) {
+                this.positions[x * SIDE + y] = new BlockPos(x, BOTTOM_Y + y, 0);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void buildWall() {
+        for(int i = 0; i < this.positions.length; i++) {
+            final ClimbingPlant plant = i % 2 == 0 ? ClimbingPlant.GRAPE : ClimbingPlant.NONE;
+            this.level.setBlockState(this.positions[i], this.lattice.defaultBlockState().setValue(CLIMBING_PLANT, plant));
+        }
+        this.random = RandomSource.create(0L);
+    }
+
+    @Benchmark
+    public void tickWall() {
+        for(final BlockPos pos : this.positions) {
+            final BlockState state = this.level.getBlockState(pos);
+            this.lattice.tickPlant(state, this.level, pos, this.random);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.dawnoftimebuilder.block.general;
+
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of the water trickles tables, done on each update of a trickle, over all the BlockStates of the block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WaterTrickleBenchmark {
+    private WaterFlowingTrickleBlock trickle;
+    private BlockState[] states;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        this.trickle = new WaterFlowingTrickleBlock(BlockBehaviour.Properties.of());
+        this.states = this.trickle.getStateDefinition().getPossibleStates().toArray(new BlockState[0]);
+        // The tables are built on the first lookup.
+        this.trickle.getWaterTrickleOutPut(this.states[0]);
+    }
+
+    @Benchmark
+    public void getWaterTrickleOutPut(final Blackhole blackhole) {
+        for(final BlockState state : this.states) {
+            blackhole.consume(this.trickle.getWaterTrickleOutPut(state));
+        }
+    }
+
+    @Benchmark
+    public void withWaterTrickles(final Blackhole blackhole) {
+        for(int i = 0; i < this.states.length; i++) {
+            blackhole.consume(this.trickle.withWaterTrickles(this.states[i], i));
+        }
+    }
+
+    @Benchmark
+    public void inheritWaterTrickles(final Blackhole blackhole) {
+        for(int i = 0; i < this.states.length; i++) {
+            blackhole.consume(this.trickle.inheritWaterTrickles(this.states[i], this.states[this.states.length - 1 - i]));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.dawnoftimebuilder.block.general;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.InMemoryLevel;
+import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settling of a tall column of unstable water trickles under a source, as done by {@link WaterTrickleBlock#tick} when the
+ * bottom trickle of the column is ticked. The ticks of the blocks need a ServerLevel, so the benchmark calls
+ * {@link WaterTrickleColumn#solve} directly, which is all the tick does for an unstable trickle. The column rests on stone,
+ * so its bottom trickle becomes water. The column is built again before each call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WaterTrickleColumnBenchmark {
+    @Param({"16", "64", "256"})
+    public int height;
+
+    private InMemoryLevel level;
+    private BlockState sourceState;
+    private BlockState trickleState;
+    private BlockPos bottomPos;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        this.level = new InMemoryLevel();
+        this.sourceState = new WaterSourceTrickleBlock(BlockBehaviour.Properties.of()).defaultBlockState().setValue(BlockStatePropertiesAA.CENTER, true);
+        this.trickleState = new WaterFlowingTrickleBlock(BlockBehaviour.Properties.of()).defaultBlockState();
+        this.level.setBlockState(BlockPos.ZERO, Blocks.STONE.defaultBlockState());
+        this.bottomPos = BlockPos.ZERO.above();
+    }
+
+    @Setup(Level.Invocation)
+    public void buildColumn() {
+        for(int y = 1; y < this.height; y++) {
+            this.level.setBlockState(BlockPos.ZERO.above(y), this.trickleState);
+        }
+        this.level.setBlockState(BlockPos.ZERO.above(this.height), this.sourceState);
+        this.level.clearScheduledTicks();
+    }
+
+    @Benchmark
+    public BlockState solveColumn() {
+        WaterTrickleColumn.solve(this.level, this.bottomPos);
+        return this.level.getBlockState(this.bottomPos);
+    }
+}
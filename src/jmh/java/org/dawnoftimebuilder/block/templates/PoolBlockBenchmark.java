@@ -0,0 +1,87 @@
+package org.dawnoftimebuilder.block.templates;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.InMemoryLevel;
+import org.dawnoftimebuilder.util.ShapeTable;
+import org.dawnoftimebuilder.world.PoolNetworkData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbour updates of the pools of a square basin. The shape updates go through {@link PoolBlock#updateShape}, and the
+ * placement and the removal of a pool go through the {@link PoolNetworkData} of the basin, like {@link PoolBlock#onPlace}
+ * and {@link PoolBlock#onRemove} do on a server level. Removing the pool in the middle of the basin may split it, so the
+ * basin is indexed again from the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoolBlockBenchmark {
+    private static final Direction[] HORIZONTAL_DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+    private static final int Y = 64;
+
+    @Param({"16", "64"})
+    public int side;
+
+    private InMemoryLevel level;
+    private PoolNetworkData network;
+    private BlockPos[] positions;
+    private BlockPos center;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        final PoolBlock pool = new PoolBlock(BlockBehaviour.Properties.of(), 16, 14, ShapeTable.POOL.get());
+        this.level = new InMemoryLevel();
+        this.positions = new BlockPos[this.side * this.side];
+        for(int x = 0; x < this.side; x++) {
+            for(int z = 0; z < this.side; z++) {
+                final BlockPos pos = new BlockPos(x, Y, z);
+                this.positions[x * this.side + z] = pos;
+                this.level.setBlockState(pos, pool.defaultBlockState()
+                        .setValue(BlockStateProperties.NORTH, z > 0)
+                        .setValue(BlockStateProperties.EAST, x < this.side - 1)
+                        .setValue(BlockStateProperties.SOUTH, z < this.side - 1)
+                        .setValue(BlockStateProperties.WEST, x > 0));
+            }
+        }
+        this.center = new BlockPos(this.side / 2, Y, this.side / 2);
+        this.network = PoolNetworkData.load(new CompoundTag());
+        this.network.getComponent(this.level, this.center);
+    }
+
+    @Benchmark
+    public void updateBasinShapes(final Blackhole blackhole) {
+        for(final BlockPos pos : this.positions) {
+            final BlockState state = this.level.getBlockState(pos);
+            for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+                final BlockPos neighbourPos = pos.relative(direction);
+                blackhole.consume(state.updateShape(direction, this.level.getBlockState(neighbourPos), this.level, pos, neighbourPos));
+            }
+        }
+    }
+
+    @Benchmark
+    public int removeAndPlaceCenterPool() {
+        final BlockState state = this.level.getBlockState(this.center);
+        this.level.setBlockState(this.center, Blocks.AIR.defaultBlockState());
+        this.network.onPoolRemoved(this.level, this.center);
+        this.level.setBlockState(this.center, state);
+        this.network.onPoolChanged(this.level, this.center, state);
+        return this.network.getComponent(this.level, this.center).size();
+    }
+
+    @Benchmark
+    public boolean hasActivatorAround() {
+        return this.network.hasActivatorAround(this.level, this.center);
+    }
+}
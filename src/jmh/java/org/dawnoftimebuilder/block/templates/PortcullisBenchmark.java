@@ -0,0 +1,67 @@
+package org.dawnoftimebuilder.block.templates;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.DoTBConfig;
+import org.dawnoftimebuilder.InMemoryLevel;
+import org.dawnoftimebuilder.util.BlockStatePropertiesAA.VerticalConnection;
+import org.dawnoftimebuilder.world.PortcullisGateRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.dawnoftimebuilder.util.BlockStatePropertiesAA.VERTICAL_CONNECTION;
+
+/**
+ * Opening and closing of a 16x16 portcullis gate by a redstone block placed on and removed from its top row. The top cell
+ * under the redstone block receives the neighbour update, then the gate registry changes all the rows. The rows are changed
+ * in the same call (portcullisRowDelay set to 0), since the following rows of an animation are changed by the ticks of a
+ * ServerLevel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PortcullisBenchmark {
+    private static final int SIZE = 16;
+    private static final int TOP_Y = 100;
+
+    private InMemoryLevel level;
+    private BlockPos powerPos;
+    private BlockPos bottomPos;
+    private boolean powered;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        DoTBConfig.PORTCULLIS_ROW_DELAY.set(0);
+        final PortcullisBlock portcullis = new PortcullisBlock(BlockBehaviour.Properties.of());
+        final BlockState state = portcullis.defaultBlockState().setValue(BlockStateProperties.HORIZONTAL_AXIS, Direction.Axis.X);
+        this.level = new InMemoryLevel();
+        for(int x = 0; x < SIZE; x++) {
+            for(int row = 0; row < SIZE; row++) {
+                final VerticalConnection connection = row == 0 ? VerticalConnection.UNDER : row == SIZE - 1 ? VerticalConnection.ABOVE : VerticalConnection.BOTH;
+                this.level.setBlockState(new BlockPos(x, TOP_Y - row, 0), state.setValue(VERTICAL_CONNECTION, connection));
+            }
+        }
+        this.powerPos = new BlockPos(SIZE / 2, TOP_Y + 1, 0);
+        this.bottomPos = new BlockPos(SIZE / 2, TOP_Y - SIZE + 1, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        PortcullisGateRegistry.remove(this.level);
+    }
+
+    @Benchmark
+    public BlockState toggleGate() {
+        this.powered = !this.powered;
+        this.level.setBlock(this.powerPos, this.powered ? Blocks.REDSTONE_BLOCK.defaultBlockState() : Blocks.AIR.defaultBlockState(), Block.UPDATE_ALL);
+        return this.level.getBlockState(this.bottomPos);
+    }
+}
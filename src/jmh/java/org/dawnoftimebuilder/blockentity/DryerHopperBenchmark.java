@@ -0,0 +1,115 @@
+package org.dawnoftimebuilder.blockentity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import org.dawnoftimebuilder.DawnOfTimeBuilder;
+import org.dawnoftimebuilder.InMemoryLevel;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.block.templates.DryerBlock;
+import org.dawnoftimebuilder.recipe.DryerRecipe;
+import org.dawnoftimebuilder.registry.DoTBBlockEntitiesRegistry;
+import org.dawnoftimebuilder.registry.DoTBRecipeTypesRegistry;
+import org.dawnoftimebuilder.util.VoxelShapes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hoppers feeding a row of dryers, one hopper above each dryer. Each benchmark call is a game tick : every hopper is ticked
+ * like in a world, and inserts into the dryer under it through the capability of the dryer, so into the whole rack.<p/>
+ * With an empty rack, the dryers that are full are emptied after each tick and the hoppers are filled again, so that the
+ * hoppers always find a free slot. With a full rack, the hoppers look for a free slot in the whole rack on each tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DryerHopperBenchmark {
+    private static final int DRYER_Y = 64;
+
+    @Param({"16", "64"})
+    public int dryers;
+
+    @Param({"false", "true"})
+    public boolean fullRack;
+
+    private InMemoryLevel level;
+    private BlockState hopperState;
+    private HopperBlockEntity[] hoppers;
+    private IItemHandlerModifiable[] dryerSlots;
+    private long gameTime;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        final DryerBlock dryerBlock = new DryerBlock(BlockBehaviour.Properties.of(), VoxelShapes.DRYER_SHAPES);
+        VanillaBootstrap.bind(DoTBBlockEntitiesRegistry.DRYER, BlockEntityType.Builder.of(DryerBlockEntity::new, dryerBlock).build(null));
+        VanillaBootstrap.bind(DoTBRecipeTypesRegistry.DRYING, RecipeType.simple(new ResourceLocation(DawnOfTimeBuilder.MOD_ID, "drying")));
+        this.level = new InMemoryLevel();
+        this.level.getRecipeManager().replaceRecipes(List.<Recipe<?>>of(new DryerRecipe(new ResourceLocation(DawnOfTimeBuilder.MOD_ID, "dried_kelp"), "",
+                Ingredient.of(Items.KELP), new ItemStack(Items.DRIED_KELP), 0.0F, 1200)));
+
+        // The big dryers use their 2 slots.
+        final BlockState dryerState = dryerBlock.defaultBlockState().setValue(DryerBlock.SIZE, 1);
+        this.hopperState = Blocks.HOPPER.defaultBlockState();
+        this.hoppers = new HopperBlockEntity[this.dryers];
+        this.dryerSlots = new IItemHandlerModifiable[this.dryers];
+        for(int x = 0; x < this.dryers; x++) {
+            final BlockPos dryerPos = new BlockPos(x, DRYER_Y, 0);
+            this.level.setBlockState(dryerPos, dryerState);
+            final DryerBlockEntity dryer = new DryerBlockEntity(dryerPos, dryerState);
+            this.level.setBlockEntity(dryer);
+            this.dryerSlots[x] = (IItemHandlerModifiable) dryer.getItemHandler();
+            if(this.fullRack) {
+                for(int slot = 0; slot < this.dryerSlots[x].getSlots(); slot++) {
+                    this.dryerSlots[x].setStackInSlot(slot, new ItemStack(Items.KELP));
+                }
+            }
+
+            final BlockPos hopperPos = dryerPos.above();
+            this.level.setBlockState(hopperPos, this.hopperState);
+            this.hoppers[x] = new HopperBlockEntity(hopperPos, this.hopperState);
+            this.level.setBlockEntity(this.hoppers[x]);
+            // A full hopper doesn't look for the items above it, which would need the entities of the level.
+            for(int slot = 0; slot < this.hoppers[x].getContainerSize(); slot++) {
+                this.hoppers[x].setItem(slot, new ItemStack(Items.KELP, 64));
+            }
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        this.gameTime++;
+        this.level.setGameTime(this.gameTime);
+        for(final HopperBlockEntity hopper : this.hoppers) {
+            HopperBlockEntity.pushItemsTick(this.level, hopper.getBlockPos(), this.hopperState, hopper);
+        }
+        if(this.fullRack) {
+            return 0;
+        }
+        int emptiedDryers = 0;
+        for(final IItemHandlerModifiable slots : this.dryerSlots) {
+            if(!slots.getStackInSlot(slots.getSlots() - 1).isEmpty()) {
+                for(int slot = 0; slot < slots.getSlots(); slot++) {
+                    slots.setStackInSlot(slot, ItemStack.EMPTY);
+                }
+                emptiedDryers++;
+            }
+        }
+        for(final HopperBlockEntity hopper : this.hoppers) {
+            hopper.getItem(0).setCount(64);
+        }
+        return emptiedDryers;
+    }
+}
@@ -0,0 +1,108 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rotation of the horizontal shapes, with {@link Utils#generateHorizontalShapes(VoxelShape[], VoxelShape...)} and with
+ * the former rotation as a baseline. The former rotation OR-ed the boxes one at a time into the rotated shape, optimizing
+ * it after each box, and rotated each direction from the previous one.<p/>
+ * The original shapes are read from the start of the tables, and the shapes that are not rotated from their end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HorizontalShapesBenchmark {
+    @Param({"TATAMI_MAT", "ROMAN_COUCH"})
+    public String table;
+
+    private VoxelShape[] shapes;
+    private VoxelShape[] nonRotatedShapes;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        switch(this.table) {
+            case "TATAMI_MAT" -> {
+                this.shapes = Arrays.copyOf(VoxelShapes.TATAMI_MAT_SHAPES, 3);
+                this.nonRotatedShapes = new VoxelShape[]{VoxelShapes.TATAMI_MAT_SHAPES[12]};
+            }
+            case "ROMAN_COUCH" -> {
+                this.shapes = Arrays.copyOf(VoxelShapes.ROMAN_COUCH_SHAPES, 1);
+                this.nonRotatedShapes = new VoxelShape[0];
+            }
+            default -> throw new IllegalArgumentException("Unknown shape table " + this.table);
+        }
+        if(!Arrays.equals(Utils.generateHorizontalShapes(this.shapes.clone(), this.nonRotatedShapes), generateHorizontalShapesLegacy(this.shapes.clone(), this.nonRotatedShapes))) {
+            throw new IllegalStateException("The rotations of " + this.table + " don't give the same shapes");
+        }
+    }
+
+    @Benchmark
+    public void rotateHorizontally(final Blackhole blackhole) {
+        for(final VoxelShape shape : this.shapes) {
+            for(int quarterTurns = 1; quarterTurns < 4; quarterTurns++) {
+                blackhole.consume(VoxelShapesBuilder.rotateHorizontally(shape, quarterTurns));
+            }
+        }
+    }
+
+    @Benchmark
+    public void rotateHorizontallyLegacy(final Blackhole blackhole) {
+        for(final VoxelShape shape : this.shapes) {
+            VoxelShape rotatedShape = shape;
+            for(int quarterTurns = 1; quarterTurns < 4; quarterTurns++) {
+                rotatedShape = rotateQuarterTurnLegacy(rotatedShape);
+                blackhole.consume(rotatedShape);
+            }
+        }
+    }
+
+    @Benchmark
+    public VoxelShape[] generateHorizontalShapes() {
+        return Utils.generateHorizontalShapes(this.shapes.clone(), this.nonRotatedShapes);
+    }
+
+    @Benchmark
+    public VoxelShape[] generateHorizontalShapesLegacy() {
+        // The former rotation writes the rotated shapes in the given array.
+        return generateHorizontalShapesLegacy(this.shapes.clone(), this.nonRotatedShapes);
+    }
+
+    /**
+     * The former {@link Utils#generateHorizontalShapes(VoxelShape[], VoxelShape...)}, with the interning that the tables
+     * used to do on its result.
+     */
+    private static VoxelShape[] generateHorizontalShapesLegacy(final VoxelShape[] shapes, final VoxelShape... nonRotatedShapes) {
+        final VoxelShape[] newShapes = new VoxelShape[shapes.length * 4 + nonRotatedShapes.length];
+        int i = 0;
+        for(final VoxelShape shape : shapes) {
+            newShapes[i] = shape;
+            i++;
+        }
+        for(int rotation = 1; rotation < 4; rotation++) {
+            for(int j = 0; j < shapes.length; j++) {
+                shapes[j] = rotateQuarterTurnLegacy(shapes[j]);
+                newShapes[i] = shapes[j];
+                i++;
+            }
+        }
+        for(final VoxelShape shape : nonRotatedShapes) {
+            newShapes[i] = shape;
+            i++;
+        }
+        return VoxelShapesBuilder.intern(newShapes);
+    }
+
+    private static VoxelShape rotateQuarterTurnLegacy(final VoxelShape shape) {
+        final VoxelShape[] newShape = {Shapes.empty()};
+        shape.forAllBoxes((minX, minY, minZ, maxX, maxY, maxZ) -> newShape[0] = Shapes.or(newShape[0], Shapes.box(1 - maxZ, minY, minX, 1 - minZ, maxY, maxX)));
+        return newShape[0];
+    }
+}
@@ -0,0 +1,50 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.InMemoryLevel;
+import org.dawnoftimebuilder.block.templates.PoolBlock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walk over a square basin of pools, as done each time a pool of the basin is filled, drained or indexed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoolTraversalBenchmark {
+    @Param({"16", "64"})
+    public int side;
+
+    private LevelAccessor level;
+    private BlockPos center;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        final PoolBlock pool = new PoolBlock(BlockBehaviour.Properties.of(), 16, 14, ShapeTable.POOL.get());
+        final InMemoryLevel inMemoryLevel = new InMemoryLevel();
+        for(int x = 0; x < this.side; x++) {
+            for(int z = 0; z < this.side; z++) {
+                inMemoryLevel.setBlockState(new BlockPos(x, 64, z), pool.defaultBlockState());
+            }
+        }
+        this.level = inMemoryLevel;
+        this.center = new BlockPos(this.side / 2, 64, this.side / 2);
+    }
+
+    @Benchmark
+    public int walkBasin() {
+        return PoolTraversal.walk(this.level, this.center, (packedPos, state) -> true);
+    }
+
+    @Benchmark
+    public int walkBasinFiltered() {
+        // Refuses one column out of two, like the index refusing the pools that already belong to another basin.
+        return PoolTraversal.walk(this.level, this.center, packedPos -> (BlockPos.getX(packedPos) & 1) == 0, (packedPos, state) -> true);
+    }
+}
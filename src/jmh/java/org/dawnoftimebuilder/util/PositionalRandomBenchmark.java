@@ -0,0 +1,31 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random values of the random ticks, drawn from the position instead of the RandomSource of the level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionalRandomBenchmark {
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private long gameTime;
+
+    @Benchmark
+    public float nextFloat() {
+        this.gameTime++;
+        this.pos.set((int) this.gameTime & 255, 64, (int) (this.gameTime >>> 8) & 255);
+        return PositionalRandom.nextFloat(this.pos, this.gameTime);
+    }
+
+    @Benchmark
+    public long nextLong() {
+        this.gameTime++;
+        this.pos.set((int) this.gameTime & 255, 64, (int) (this.gameTime >>> 8) & 255);
+        return PositionalRandom.nextLong(this.pos, this.gameTime);
+    }
+}
@@ -0,0 +1,75 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.dawnoftimebuilder.TestChunks;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vertical scans in chunks of the vanilla height and of custom heights, up to the biggest height a dimension can have. A
+ * column spans the whole build height, and a shorter run stands in the middle of another one.<p/>
+ * The bounds returned by the scans are checked by VerticalScanTest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerticalScanBenchmark {
+    private static final int SHORT_RUN_LENGTH = 40;
+
+    // Minimum Y and height of the chunk.
+    @Param({"-64,384", "0,256", "-2032,4064"})
+    public String heights;
+
+    private final Block block = Blocks.OAK_LOG;
+    private ProtoChunk chunk;
+    private BlockPos columnBottom;
+    private BlockPos columnTop;
+    private BlockPos shortRunMiddle;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        final String[] values = this.heights.split(",");
+        this.chunk = TestChunks.create(Integer.parseInt(values[0]), Integer.parseInt(values[1]));
+        final int minY = this.chunk.getMinBuildHeight();
+        final int maxY = VerticalScan.getMaxY(this.chunk);
+        this.columnBottom = new BlockPos(0, minY, 0);
+        this.columnTop = new BlockPos(0, maxY, 0);
+        for(int y = minY; y <= maxY; y++) {
+            this.chunk.setBlockState(this.columnBottom.atY(y), this.block.defaultBlockState(), false);
+        }
+        final int shortRunBottomY = minY + (maxY - minY - SHORT_RUN_LENGTH) / 2;
+        this.shortRunMiddle = new BlockPos(1, shortRunBottomY + SHORT_RUN_LENGTH / 2, 0);
+        for(int y = shortRunBottomY; y < shortRunBottomY + SHORT_RUN_LENGTH; y++) {
+            this.chunk.setBlockState(this.shortRunMiddle.atY(y), this.block.defaultBlockState(), false);
+        }
+        Heightmap.primeHeightmaps(this.chunk, EnumSet.of(Heightmap.Types.WORLD_SURFACE));
+    }
+
+    @Benchmark
+    public int columnTopY() {
+        return VerticalScan.getRunTopY(this.chunk, this.columnBottom, this.block);
+    }
+
+    @Benchmark
+    public int columnBottomY() {
+        return VerticalScan.getRunBottomY(this.chunk, this.columnTop, this.block);
+    }
+
+    @Benchmark
+    public int shortRunTopY() {
+        return VerticalScan.getRunTopY(this.chunk, this.shortRunMiddle, this.block);
+    }
+
+    @Benchmark
+    public int shortRunBottomY() {
+        return VerticalScan.getRunBottomY(this.chunk, this.shortRunMiddle, this.block);
+    }
+}
@@ -0,0 +1,66 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.dawnoftimebuilder.block.templates.PoolBlock;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building of the VoxelShape tables, and lookup of the shape of a BlockState. The tables are built from the builders of
+ * {@link VoxelShapesBuilder} directly, since {@link ShapeTable} only builds each table once. The rotation of the shapes
+ * is measured by {@link HorizontalShapesBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoxelShapeBenchmark {
+    private BlockState[] poolStates;
+    private PoolBlock bakedPool;
+    private PoolBlock pool;
+
+    @Setup
+    public void setup() {
+        VanillaBootstrap.init();
+        this.bakedPool = new PoolBlock(BlockBehaviour.Properties.of(), 16, 14, ShapeTable.POOL.get());
+        this.bakedPool.bakeShapes();
+        this.pool = new PoolBlock(BlockBehaviour.Properties.of(), 16, 14, ShapeTable.POOL.get());
+        this.poolStates = this.pool.getStateDefinition().getPossibleStates().toArray(new BlockState[0]);
+    }
+
+    @Benchmark
+    public VoxelShape[] buildPoolTable() {
+        return VoxelShapesBuilder.intern(VoxelShapesBuilder.makePoolShapes());
+    }
+
+    @Benchmark
+    public VoxelShape[] buildBeamTable() {
+        return VoxelShapesBuilder.intern(VoxelShapesBuilder.makeBeamShapes());
+    }
+
+    @Benchmark
+    public VoxelShape[] buildIronFenceTable() {
+        return VoxelShapesBuilder.intern(VoxelShapesBuilder.makeIronFenceShapes());
+    }
+
+    @Benchmark
+    public void getBakedShape(final Blackhole blackhole) {
+        for(final BlockState state : this.poolStates) {
+            blackhole.consume(this.bakedPool.getShape(state, EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty()));
+        }
+    }
+
+    @Benchmark
+    public void getShapeByIndex(final Blackhole blackhole) {
+        for(final BlockState state : this.poolStates) {
+            blackhole.consume(this.pool.getShape(state, EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty()));
+        }
+    }
+}
@@ -9,7 +9,9 @@ import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.dawnoftimebuilder.item.IconItem;
+import org.dawnoftimebuilder.network.DoTBNetwork;
 import org.dawnoftimebuilder.registry.*;
+import org.dawnoftimebuilder.util.ShapeTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,9 @@ public class DawnOfTimeBuilder {
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
 
         ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, DoTBConfig.COMMON_SPEC);
+        ModLoadingContext.get().registerConfig(ModConfig.Type.CLIENT, DoTBConfig.CLIENT_SPEC);
+        // The VoxelShapes tables are built in parallel while the other mods are constructed, before the blocks need them.
+        ShapeTable.buildAllAsync();
 
         DoTBItemsRegistry.register(modEventBus);
         DoTBBlocksRegistry.register(modEventBus);
@@ -34,6 +39,7 @@ public class DawnOfTimeBuilder {
         DoTBBlockEntitiesRegistry.register(modEventBus);
         DoTBMenuTypesRegistry.register(modEventBus);
         DoTBCreativeModeTabsRegistry.register(modEventBus);
+        DoTBNetwork.register();
 
         modEventBus.register(HandlerCommon.class);
         modEventBus.register(HandlerClient.class);
@@ -10,10 +10,15 @@ public class DoTBConfig {
     public static final String BLOCK_CATEGORY = "block_properties";
     public static final String WORLD_GENERATION_CATEGORY = "world_generation";
     public static final String ENTITY_CATEGORY = "entity_properties";
+    public static final String RENDER_CATEGORY = "render";
     public static final Config COMMON_CONFIG;
     static final ForgeConfigSpec COMMON_SPEC;
+    public static final ClientConfig CLIENT_CONFIG;
+    static final ForgeConfigSpec CLIENT_SPEC;
     // General
     public static ForgeConfigSpec.IntValue DRYING_TIME_VARIATION;
+    public static ForgeConfigSpec.IntValue POOL_MAX_BASIN_SIZE;
+    public static ForgeConfigSpec.IntValue PORTCULLIS_ROW_DELAY;
     public static ForgeConfigSpec.IntValue CLIMBING_PLANT_GROWTH_CHANCE;
     public static ForgeConfigSpec.IntValue CLIMBING_PLANT_SPREAD_CHANCE;
     public static ForgeConfigSpec.IntValue STICK_BUNDLE_GROWTH_CHANCE;
@@ -25,11 +30,17 @@ public class DoTBConfig {
     public static ForgeConfigSpec.IntValue JAPANESE_DRAGON_HEALTH;
     public static ForgeConfigSpec.IntValue JAPANESE_DRAGON_ATTACK;
     public static ForgeConfigSpec.BooleanValue JAPANESE_DRAGON_MUTE;
+    // Client
+    public static ForgeConfigSpec.IntValue BLOCK_ENTITY_VIEW_DISTANCE;
+    public static ForgeConfigSpec.IntValue BLOCK_ENTITY_DETAIL_DISTANCE;
 
     static {
         final Pair<Config, ForgeConfigSpec> pair = new ForgeConfigSpec.Builder().configure(Config::new);
         COMMON_SPEC = pair.getRight();
         COMMON_CONFIG = pair.getLeft();
+        final Pair<ClientConfig, ForgeConfigSpec> clientPair = new ForgeConfigSpec.Builder().configure(ClientConfig::new);
+        CLIENT_SPEC = clientPair.getRight();
+        CLIENT_CONFIG = clientPair.getLeft();
     }
 
     public static final class Config {
@@ -54,6 +65,12 @@ public class DoTBConfig {
             builderIn.push("dryer");
             DRYING_TIME_VARIATION = builderIn.comment("The drying time of an item is randomly set in an interval around the default time from the recipe. The following value defines the high bound of the interval in percents. IE, if you choose '20', the interval will be [ 83.3% , 120%]. If you chose '200', the interval will be [33.3% , 300%] :").defineInRange("dryingTimeVariationRange", 30, 0, 100000);
             builderIn.pop();
+            builderIn.push("pool");
+            POOL_MAX_BASIN_SIZE = builderIn.comment("The maximum number of pools that can be connected in a single basin. Pools further away are not filled nor drained with the basin :").defineInRange("poolMaxBasinSize", 4096, 1, 1000000);
+            builderIn.pop();
+            builderIn.push("portcullis");
+            PORTCULLIS_ROW_DELAY = builderIn.comment("The portcullis open and close row by row. The following value is the delay between two rows in ticks (0 to change the whole gate at once) :").defineInRange("portcullisRowDelay", 2, 0, 20);
+            builderIn.pop();
             builderIn.push("climbing_plant");
             CLIMBING_PLANT_GROWTH_CHANCE = builderIn.comment("The probability to grow is equal to 1/x, with x the following value :").defineInRange("climbingPlantGrowthChance", 16, 1, 200);
             CLIMBING_PLANT_SPREAD_CHANCE = builderIn.comment("If the plant could have grown (see climbingPlantGrowthChance), it has a probability to spread to an adjacent block equal to 1/x, with x the following value :").defineInRange("climbingPlantSpreadChance", 5, 1, 1000);
@@ -64,4 +81,13 @@ public class DoTBConfig {
             builderIn.pop();
         }
     }
+
+    public static final class ClientConfig {
+        ClientConfig(final ForgeConfigSpec.Builder builderIn) {
+            builderIn.comment("---------------------------------------|| Render settings ||---------------------------------------").push(RENDER_CATEGORY);
+            BLOCK_ENTITY_VIEW_DISTANCE = builderIn.comment("The items of the Dryers and Displayers are not rendered beyond this distance, in blocks :").defineInRange("blockEntityViewDistance", 64, 8, 256);
+            BLOCK_ENTITY_DETAIL_DISTANCE = builderIn.comment("Beyond this distance in blocks, the Dryers render a single item per slot instead of four, and the animated items of the Displayers stop moving :").defineInRange("blockEntityDetailDistance", 24, 0, 256);
+            builderIn.pop();
+        }
+    }
 }
@@ -6,12 +6,16 @@ import net.minecraft.world.item.CreativeModeTab;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.client.event.EntityRenderersEvent;
+import net.minecraftforge.client.event.RegisterClientCommandsEvent;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import org.dawnoftimebuilder.client.FrameTimeSampler;
 import org.dawnoftimebuilder.client.gui.creative.CreativeInventoryEvents;
 import org.dawnoftimebuilder.client.gui.screen.DisplayerScreen;
 import org.dawnoftimebuilder.client.model.entity.SilkmothModel;
@@ -51,6 +55,21 @@ public class HandlerClient {
         event.registerLayerDefinition(SilkmothModel.LAYER_LOCATION, SilkmothModel::createBodyLayer);
     }
 
+    @SubscribeEvent
+    public static void registerClientCommands(RegisterClientCommandsEvent event) {
+        // The frame rate sampler is only a development tool.
+        if(!FMLEnvironment.production) {
+            FrameTimeSampler.register(event.getDispatcher());
+        }
+    }
+
+    @SubscribeEvent
+    public static void renderTick(TickEvent.RenderTickEvent event) {
+        if(event.phase == TickEvent.Phase.END) {
+            FrameTimeSampler.onFrameEnd();
+        }
+    }
+
     @OnlyIn(Dist.CLIENT)
     public static void onCreativeTabChange(CreativeModeInventoryScreen screen, CreativeModeTab tab) {
         DOT_SELECTED = tab == DoTBCreativeModeTabsRegistry.DOT_TAB.get();
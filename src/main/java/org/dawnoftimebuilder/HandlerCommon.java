@@ -1,10 +1,17 @@
 package org.dawnoftimebuilder;
 
+import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.entity.EntityAttributeCreationEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import org.dawnoftimebuilder.block.templates.BlockAA;
 import org.dawnoftimebuilder.entity.SilkmothEntity;
 import org.dawnoftimebuilder.registry.DoTBEntitiesRegistry;
+import org.dawnoftimebuilder.util.ShapeTable;
+import org.dawnoftimebuilder.util.VoxelShapesBuilder;
+import org.dawnoftimebuilder.world.RenderBenchmarkScene;
 
 @Mod.EventBusSubscriber(modid = DawnOfTimeBuilder.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class HandlerCommon {
@@ -13,4 +20,20 @@ public class HandlerCommon {
     public static void entityAttributes(EntityAttributeCreationEvent event) {
         event.put(DoTBEntitiesRegistry.SILKMOTH_ENTITY.get(), SilkmothEntity.createAttributes().build());
     }
+
+    @SubscribeEvent
+    public static void commonSetup(FMLCommonSetupEvent event) {
+        // The block registry is frozen at this point.
+        BlockAA.bakeAllShapes();
+        ShapeTable.logBuildTime();
+        VoxelShapesBuilder.logInternedShapes();
+    }
+
+    @SubscribeEvent
+    public static void registerCommands(RegisterCommandsEvent event) {
+        // The render scene is only a development tool.
+        if(!FMLEnvironment.production) {
+            RenderBenchmarkScene.register(event.getDispatcher());
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package org.dawnoftimebuilder;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.dawnoftimebuilder.network.SlotSync;
+import org.dawnoftimebuilder.recipe.DryerRecipeIndex;
+import org.dawnoftimebuilder.world.BlockColumnIndex;
+import org.dawnoftimebuilder.world.BlockEntityTimerWheel;
+import org.dawnoftimebuilder.world.ChimneyConduitRegistry;
+import org.dawnoftimebuilder.world.PoolNetworkData;
+import org.dawnoftimebuilder.world.PortcullisGateRegistry;
+
+@Mod.EventBusSubscriber(modid = DawnOfTimeBuilder.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class HandlerWorld {
+    private HandlerWorld() {}
+
+    @SubscribeEvent
+    public static void levelTick(TickEvent.LevelTickEvent event) {
+        if(event.phase == TickEvent.Phase.END && event.level instanceof ServerLevel serverLevel) {
+            PoolNetworkData.get(serverLevel).tick(serverLevel);
+            BlockEntityTimerWheel.get(serverLevel).tick(serverLevel);
+            PortcullisGateRegistry.get(serverLevel).tick(serverLevel);
+            // Sent last, so that the slots changed by the timers are sent on the same tick.
+            SlotSync.flush(serverLevel);
+        }
+    }
+
+    @SubscribeEvent
+    public static void levelUnload(LevelEvent.Unload event) {
+        PortcullisGateRegistry.remove(event.getLevel());
+        ChimneyConduitRegistry.remove(event.getLevel());
+        if(event.getLevel() instanceof ServerLevel serverLevel) {
+            BlockEntityTimerWheel.remove(serverLevel);
+            SlotSync.remove(serverLevel);
+            BlockColumnIndex.remove(serverLevel);
+        }
+    }
+
+    @SubscribeEvent
+    public static void chunkLoad(ChunkEvent.Load event) {
+        // The conduits cut at the border of this chunk can now be built whole.
+        ChimneyConduitRegistry.invalidateChunk(event.getLevel(), event.getChunk().getPos());
+    }
+
+    @SubscribeEvent
+    public static void chunkUnload(ChunkEvent.Unload event) {
+        // The chunk may be changed without the blocks being notified until it is loaded again.
+        ChimneyConduitRegistry.invalidateChunk(event.getLevel(), event.getChunk().getPos());
+        if(event.getLevel() instanceof ServerLevel serverLevel) {
+            BlockColumnIndex.unloadChunk(serverLevel, event.getChunk().getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void tagsUpdated(TagsUpdatedEvent event) {
+        // The items of the ingredients depend on the tags.
+        DryerRecipeIndex.invalidate();
+    }
+}
@@ -34,7 +34,6 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Random;
 
 import static org.dawnoftimebuilder.util.VoxelShapes.LIMESTONE_GARGOYLE_SHAPES;
 
@@ -93,7 +92,7 @@ public class LimestoneGargoyleBlock extends WaterloggedBlock {
             }
         } else {
             if(Utils.useLighter(worldIn, pos, player, handIn)) {
-                Random rand = new Random();
+                RandomSource rand = worldIn.getRandom();
                 for(int i = 0; i < 5; i++) {
                     worldIn.addAlwaysVisibleParticle(ParticleTypes.SMOKE, (double) pos.getX() +
                                     rand.nextDouble(), (double) pos.getY() + 0.5D + rand.nextDouble() / 2,
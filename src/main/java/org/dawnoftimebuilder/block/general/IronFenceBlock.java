@@ -25,6 +25,7 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.dawnoftimebuilder.block.templates.PlateBlock;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.util.VerticalScan;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -100,7 +101,7 @@ public class IronFenceBlock extends PlateBlock {
         } else if(!heldItemStack.isEmpty() && heldItemStack.getItem() == this.asItem()) {
             //We put a ColumnBlock on top of the column
             final BlockPos topPos = this.getHighestColumnPos(worldIn, pos).above();
-            if(topPos.getY() <= Utils.HIGHEST_Y) {
+            if(!worldIn.isOutsideBuildHeight(topPos)) {
                 if(!worldIn.isClientSide() && worldIn.getBlockState(topPos).isAir()) {
                     worldIn.setBlock(topPos, state, 11);
                     if(!player.isCreative()) {
@@ -114,13 +115,8 @@ public class IronFenceBlock extends PlateBlock {
     }
 
     private BlockPos getHighestColumnPos(final Level worldIn, final BlockPos pos) {
-        int yOffset;
-        for(yOffset = 0; yOffset + pos.getY() <= Utils.HIGHEST_Y; yOffset++) {
-            if(worldIn.getBlockState(pos.above(yOffset)).getBlock() != this) {
-                break;
-            }
-        }
-        return pos.above(yOffset - 1);
+        final int topY = VerticalScan.getRunTopY(worldIn, pos, this);
+        return topY == pos.getY() ? pos : pos.atY(topY);
     }
 
     @Override
@@ -8,8 +8,6 @@ import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BooleanProperty;
-import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
 
 public class WaterFlowingTrickleBlock extends WaterTrickleBlock {
     public WaterFlowingTrickleBlock(Properties propertiesIn) {
@@ -19,22 +17,8 @@ public class WaterFlowingTrickleBlock extends WaterTrickleBlock {
     @Override
     public BlockState updateWaterTrickle(Level world, BlockState currentState, BlockPos bottomPos, BlockState bottomState, BlockState aboveState) {
         currentState = super.updateWaterTrickle(world, currentState, bottomPos, bottomState, aboveState);
-        BooleanProperty[] properties = new BooleanProperty[] {
-                BlockStatePropertiesAA.NORTH_TRICKLE,
-                BlockStatePropertiesAA.EAST_TRICKLE,
-                BlockStatePropertiesAA.SOUTH_TRICKLE,
-                BlockStatePropertiesAA.WEST_TRICKLE,
-                BlockStatePropertiesAA.CENTER_TRICKLE
-        };
         // If one of the bool properties is True, it means this flowing water trickle is not empty. It disappears otherwise.
-        boolean hasTickle = false;
-        for(BooleanProperty prop : properties) {
-            if(currentState.getValue(prop)) {
-                hasTickle = true;
-                break;
-            }
-        }
-        if(!hasTickle) {
+        if(getWaterTrickles(currentState) == 0) {
             return Blocks.AIR.defaultBlockState();
         }
         // If the block under has a full face, we create a Water Block;
@@ -33,14 +33,19 @@ public class WaterSourceTrickleBlock extends WaterTrickleBlock {
     }
 
     @Override
-    public boolean[] getWaterTrickleOutPut(BlockState currentState) {
-        boolean[] trickleOutput = super.getWaterTrickleOutPut(currentState);
-        return new boolean[] {
-                trickleOutput[0] || currentState.getValue(BlockStateProperties.NORTH),
-                trickleOutput[1] || currentState.getValue(BlockStateProperties.EAST),
-                trickleOutput[2] || currentState.getValue(BlockStateProperties.SOUTH),
-                trickleOutput[3] || currentState.getValue(BlockStateProperties.WEST),
-                trickleOutput[4] || currentState.getValue(BlockStatePropertiesAA.CENTER) };
+    protected int computeWaterTrickleOutPut(BlockState currentState) {
+        int trickles = super.computeWaterTrickleOutPut(currentState);
+        if(currentState.getValue(BlockStateProperties.NORTH)) trickles |= NORTH_TRICKLE;
+        if(currentState.getValue(BlockStateProperties.EAST)) trickles |= EAST_TRICKLE;
+        if(currentState.getValue(BlockStateProperties.SOUTH)) trickles |= SOUTH_TRICKLE;
+        if(currentState.getValue(BlockStateProperties.WEST)) trickles |= WEST_TRICKLE;
+        if(currentState.getValue(BlockStatePropertiesAA.CENTER)) trickles |= CENTER_TRICKLE;
+        return trickles;
+    }
+
+    @Override
+    protected boolean isWaterTrickleSource() {
+        return true;
     }
 
     @Override
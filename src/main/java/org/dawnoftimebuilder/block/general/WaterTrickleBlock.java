@@ -1,5 +1,7 @@
 package org.dawnoftimebuilder.block.general;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
@@ -12,7 +14,6 @@ import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.LiquidBlockContainer;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -27,7 +28,6 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.dawnoftimebuilder.block.templates.PoolBlock;
 import org.dawnoftimebuilder.block.templates.BlockAA;
-import org.dawnoftimebuilder.registry.DoTBBlocksRegistry;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA.WaterTrickleEnd;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +35,18 @@ import org.jetbrains.annotations.Nullable;
 import static net.minecraft.world.InteractionHand.MAIN_HAND;
 
 public abstract class WaterTrickleBlock extends BlockAA {
+    public static final int NORTH_TRICKLE = 1;
+    public static final int EAST_TRICKLE = 1 << 1;
+    public static final int SOUTH_TRICKLE = 1 << 2;
+    public static final int WEST_TRICKLE = 1 << 3;
+    public static final int CENTER_TRICKLE = 1 << 4;
+    public static final int ALL_TRICKLES = NORTH_TRICKLE | EAST_TRICKLE | SOUTH_TRICKLE | WEST_TRICKLE | CENTER_TRICKLE;
+    // The _TRICKLE properties, ordered like the bits of the trickles masks.
+    private static final BooleanProperty[] TRICKLE_PROPERTIES = {
+            BlockStatePropertiesAA.NORTH_TRICKLE, BlockStatePropertiesAA.EAST_TRICKLE, BlockStatePropertiesAA.SOUTH_TRICKLE, BlockStatePropertiesAA.WEST_TRICKLE, BlockStatePropertiesAA.CENTER_TRICKLE };
+
+    private volatile TrickleTables trickleTables;
+
     public WaterTrickleBlock(final Properties propertiesIn) {
         super(propertiesIn);
         this.registerDefaultState(this.defaultBlockState().setValue(BlockStatePropertiesAA.NORTH_TRICKLE, false).setValue(BlockStatePropertiesAA.EAST_TRICKLE, false).setValue(BlockStatePropertiesAA.SOUTH_TRICKLE, false)
@@ -60,7 +72,7 @@ public abstract class WaterTrickleBlock extends BlockAA {
 
     @Override
     public BlockState updateShape(final BlockState stateIn, final Direction directionIn, final BlockState facingStateIn, final LevelAccessor worldIn, final BlockPos currentPosIn, final BlockPos facingPosIn) {
-        // If a block above or under changed, the water trickle is set UNSTABLE. Unstable water trickles are updated on the next randomTick.
+        // If a block above or under changed, the water trickle is set UNSTABLE. Unstable water trickles are updated on their next scheduled tick.
         if(directionIn == Direction.UP && facingStateIn.getBlock() instanceof WaterTrickleBlock) {
             if(!worldIn.isClientSide()) {
                 (worldIn).scheduleTick(currentPosIn, this, 5);
@@ -77,16 +89,52 @@ public abstract class WaterTrickleBlock extends BlockAA {
     }
 
     /**
-     * Creates an array used to get the list of the water trickles produced by this block.
+     * Returns the water trickles produced by this block, as a 5 bits mask {@link #NORTH_TRICKLE} | {@link #EAST_TRICKLE} |
+     * {@link #SOUTH_TRICKLE} | {@link #WEST_TRICKLE} | {@link #CENTER_TRICKLE}. The mask of each BlockState is computed
+     * once, so this function doesn't allocate anything.
+     *
+     * @param currentState BlockState of the WaterTrickle.
+     *
+     * @return The mask of the water trickles produced by this block.
+     */
+    public final int getWaterTrickleOutPut(final BlockState currentState) {
+        return this.getTrickleTables().outputs.getInt(currentState);
+    }
+
+    /**
+     * Computes the mask returned by {@link #getWaterTrickleOutPut(BlockState)}. Called only once per BlockState.
      *
      * @param currentState BlockState of the WaterTrickle.
      *
-     * @return A boolean array that contains 5 booleans {north, east, south, west center}. Each true value correspond to a water trickle at the corresponding position.
+     * @return The mask of the water trickles produced by this block.
      */
-    public boolean[] getWaterTrickleOutPut(final BlockState currentState) {
-        return new boolean[] {
-                currentState.getValue(BlockStatePropertiesAA.NORTH_TRICKLE), currentState.getValue(BlockStatePropertiesAA.EAST_TRICKLE), currentState.getValue(BlockStatePropertiesAA.SOUTH_TRICKLE),
-                currentState.getValue(BlockStatePropertiesAA.WEST_TRICKLE), currentState.getValue(BlockStatePropertiesAA.CENTER_TRICKLE) };
+    protected int computeWaterTrickleOutPut(final BlockState currentState) {
+        return getWaterTrickles(currentState);
+    }
+
+    /**
+     * @param currentState BlockState of a WaterTrickle.
+     *
+     * @return The mask of the water trickles that flow through this block (the _TRICKLE properties).
+     */
+    public static int getWaterTrickles(final BlockState currentState) {
+        int trickles = 0;
+        for(int i = 0; i < TRICKLE_PROPERTIES.length; i++) {
+            if(currentState.getValue(TRICKLE_PROPERTIES[i])) {
+                trickles |= 1 << i;
+            }
+        }
+        return trickles;
+    }
+
+    /**
+     * @param currentState BlockState of this WaterTrickle.
+     * @param trickles     Mask of the water trickles that must flow through this block.
+     *
+     * @return The BlockState with the same properties, except the _TRICKLE properties that follow the mask.
+     */
+    public BlockState withWaterTrickles(final BlockState currentState, final int trickles) {
+        return this.getTrickleTables().rows.get(currentState)[trickles & ALL_TRICKLES];
     }
 
     /**
@@ -98,46 +146,37 @@ public abstract class WaterTrickleBlock extends BlockAA {
      * @return An updated BlockState with the updated trickles. Can be AIR blockstate if the block should disappear.
      */
     public BlockState inheritWaterTrickles(final BlockState currentState, final BlockState aboveState) {
-        final boolean[] trickles = ((WaterTrickleBlock) aboveState.getBlock()).getWaterTrickleOutPut(aboveState);
-        final BooleanProperty[] properties = {
-                BlockStatePropertiesAA.NORTH_TRICKLE, BlockStatePropertiesAA.EAST_TRICKLE, BlockStatePropertiesAA.SOUTH_TRICKLE, BlockStatePropertiesAA.WEST_TRICKLE, BlockStatePropertiesAA.CENTER_TRICKLE };
-        int i = 0;
-        BlockState updatedState = currentState;
-        for(final BooleanProperty property : properties) {
-            if(currentState.getValue(property) != trickles[i]) {
-                updatedState = updatedState.setValue(property, trickles[i]).setValue(BlockStateProperties.UNSTABLE, true);
-            }
-            i++;
+        final int trickles = aboveState.getBlock() instanceof WaterTrickleBlock aboveBlock ? aboveBlock.getWaterTrickleOutPut(aboveState) : 0;
+        if(getWaterTrickles(currentState) == trickles) {
+            return currentState;
         }
-        return updatedState;
+        return this.withWaterTrickles(currentState, trickles).setValue(BlockStateProperties.UNSTABLE, true);
+    }
+
+    /**
+     * @param currentState BlockState of the WaterTrickle.
+     *
+     * @return True if at least one water trickle is produced by this block.
+     */
+    public boolean hasWaterTrickleOutPut(final BlockState currentState) {
+        return this.getWaterTrickleOutPut(currentState) != 0;
+    }
+
+    /**
+     * @return True if this block can start a column of water trickles by itself. Such blocks settle their column on each of
+     * their scheduled ticks, even when they are stable.
+     */
+    protected boolean isWaterTrickleSource() {
+        return false;
     }
 
     @Override
-    public void tick(BlockState state, final ServerLevel world, final BlockPos pos, final RandomSource rand) {
+    public void tick(final BlockState state, final ServerLevel world, final BlockPos pos, final RandomSource rand) {
         super.tick(state, world, pos, rand);
-        // We consider that this Water Trickle won't be unstable by the end of this random tick.
-        state = state.setValue(BlockStateProperties.UNSTABLE, false);
-        final BlockPos bottomPos = pos.below();
-        BlockState bottomState = world.getBlockState(bottomPos);
-        final BlockPos abovePos = pos.above();
-        final BlockState aboveState = world.getBlockState(abovePos);
-
-        // First we check if the block under has trickles. If yes, we check if there is some difference, and make it unstable if yes.
-        if(bottomState.getBlock() instanceof WaterTrickleBlock) {
-            final BlockState updatedState = this.inheritWaterTrickles(bottomState, state);
-            if(updatedState.getValue(BlockStateProperties.UNSTABLE)) {
-                world.setBlock(bottomPos, bottomState.setValue(BlockStateProperties.UNSTABLE, true), 10);
-            }
-            // If the block under is not a water trickle and can be replaced and is not liquid, we put an unstable Flowing Water Trickle.
-        } else if(bottomState.canBeReplaced(this.generateContext(world, bottomPos)) && world.getFluidState(bottomPos).getType().equals(Fluids.EMPTY)) {
-            bottomState = this.createFlowingTrickle(bottomState, this.getWaterTrickleOutPut(state), world, bottomPos);
-            // If the block can contain fluid, we fill it with water.
-        } else if(bottomState.getBlock() instanceof LiquidBlockContainer && ((LiquidBlockContainer) bottomState.getBlock()).canPlaceLiquid(world, bottomPos, bottomState, Fluids.WATER)) {
-            ((LiquidBlockContainer) bottomState.getBlock()).placeLiquid(world, bottomPos, bottomState, Fluids.WATER.getSource(false));
+        // The whole column is settled at once, so the stable water trickles below a source don't need to be updated.
+        if(state.getValue(BlockStateProperties.UNSTABLE) || this.isWaterTrickleSource()) {
+            WaterTrickleColumn.solve(world, pos);
         }
-
-        final BlockState updatedState = this.updateWaterTrickle(world, state, bottomPos, bottomState, aboveState);
-        world.setBlock(pos, updatedState, 10);
     }
 
     public BlockState updateWaterTrickle(final Level world, BlockState currentState, final BlockPos bottomPos, final BlockState bottomState, final BlockState aboveState) {
@@ -146,57 +185,19 @@ public abstract class WaterTrickleBlock extends BlockAA {
         currentState = currentState.setValue(BlockStatePropertiesAA.WATER_TRICKLE_END, lowerEnd);
 
         // Finally, we synchronize this water trickle with the block above. If it changes, this block stays unstable.
-        if(aboveState.getBlock() instanceof WaterTrickleBlock) {
-            currentState = this.inheritWaterTrickles(currentState, aboveState);
-        } else {
-            currentState = this.inheritWaterTrickles(currentState, this.defaultBlockState());
-        }
-
-        return currentState;
-    }
-
-    /**
-     * Generates a BlockState of Water Trickle based on the current block, and set it in the world if needed.
-     *
-     * @param currentState    BlockState of the current block. Will be returned by the function.
-     * @param trickles        Array of booleans that correspond to each of the 5 trickles.
-     * @param world           Level in which the Water Trickle must be set.
-     * @param waterTricklePos BlockPos where the Trickle must be placed.
-     *
-     * @return The new BlockState of the block (either a trickle or the old state).
-     */
-    public BlockState createFlowingTrickle(final BlockState currentState, final boolean[] trickles, final Level world, final BlockPos waterTricklePos) {
-        final BooleanProperty[] properties = {
-                BlockStatePropertiesAA.NORTH_TRICKLE, BlockStatePropertiesAA.EAST_TRICKLE, BlockStatePropertiesAA.SOUTH_TRICKLE, BlockStatePropertiesAA.WEST_TRICKLE, BlockStatePropertiesAA.CENTER_TRICKLE };
-        int i = 0;
-        int numberOfTrickle = 0;
-        BlockState waterTrickleState = DoTBBlocksRegistry.WATER_FLOWING_TRICKLE.get().defaultBlockState();
-        // Creates the BlockState of the trickle based on the source block.
-        for(final BooleanProperty property : properties) {
-            waterTrickleState = waterTrickleState.setValue(property, trickles[i]);
-            if(trickles[i]) {
-                numberOfTrickle++;
-            }
-            i++;
-        }
-        // If the number of trickle is still null, then we don't create anything.
-        if(numberOfTrickle > 0) {
-            world.setBlock(waterTricklePos, waterTrickleState, 10);
-            return waterTrickleState;
-        }
-        return currentState;
+        return this.inheritWaterTrickles(currentState, aboveState);
     }
 
     @Override
     public void animateTick(final BlockState state, final Level worldIn, final BlockPos pos, final RandomSource rand) {
         super.animateTick(state, worldIn, pos, rand);
-        final boolean[] trickles = this.getWaterTrickleOutPut(state);
+        final int trickles = this.getWaterTrickleOutPut(state);
         if(state.getValue(BlockStatePropertiesAA.WATER_TRICKLE_END) == WaterTrickleEnd.SPLASH) {
-            this.spawnFullParticles(worldIn, pos, trickles[0], rand, 0.5D, 0.4D);
-            this.spawnFullParticles(worldIn, pos, trickles[1], rand, 0.6D, 0.5D);
-            this.spawnFullParticles(worldIn, pos, trickles[2], rand, 0.5D, 0.6D);
-            this.spawnFullParticles(worldIn, pos, trickles[3], rand, 0.5D, 0.6D);
-            this.spawnFullParticles(worldIn, pos, trickles[4], rand, 0.5D, 0.5D);
+            this.spawnFullParticles(worldIn, pos, (trickles & NORTH_TRICKLE) != 0, rand, 0.5D, 0.4D);
+            this.spawnFullParticles(worldIn, pos, (trickles & EAST_TRICKLE) != 0, rand, 0.6D, 0.5D);
+            this.spawnFullParticles(worldIn, pos, (trickles & SOUTH_TRICKLE) != 0, rand, 0.5D, 0.6D);
+            this.spawnFullParticles(worldIn, pos, (trickles & WEST_TRICKLE) != 0, rand, 0.5D, 0.6D);
+            this.spawnFullParticles(worldIn, pos, (trickles & CENTER_TRICKLE) != 0, rand, 0.5D, 0.5D);
 
             return;
         }
@@ -204,11 +205,11 @@ public abstract class WaterTrickleBlock extends BlockAA {
         final BlockState belowState = worldIn.getBlockState(pos.below());
 
         if(belowState.getBlock() instanceof PoolBlock && belowState.getValue(BlockStatePropertiesAA.LEVEL) > ((PoolBlock) belowState.getBlock()).faucetLevel) {
-            this.spawnLimitedParticles(worldIn, pos, trickles[0], rand, 0.5D, 0.4D);
-            this.spawnLimitedParticles(worldIn, pos, trickles[1], rand, 0.6D, 0.5D);
-            this.spawnLimitedParticles(worldIn, pos, trickles[2], rand, 0.5D, 0.6D);
-            this.spawnLimitedParticles(worldIn, pos, trickles[3], rand, 0.5D, 0.6D);
-            this.spawnLimitedParticles(worldIn, pos, trickles[4], rand, 0.5D, 0.5D);
+            this.spawnLimitedParticles(worldIn, pos, (trickles & NORTH_TRICKLE) != 0, rand, 0.5D, 0.4D);
+            this.spawnLimitedParticles(worldIn, pos, (trickles & EAST_TRICKLE) != 0, rand, 0.6D, 0.5D);
+            this.spawnLimitedParticles(worldIn, pos, (trickles & SOUTH_TRICKLE) != 0, rand, 0.5D, 0.6D);
+            this.spawnLimitedParticles(worldIn, pos, (trickles & WEST_TRICKLE) != 0, rand, 0.5D, 0.6D);
+            this.spawnLimitedParticles(worldIn, pos, (trickles & CENTER_TRICKLE) != 0, rand, 0.5D, 0.5D);
         }
     }
 
@@ -244,13 +245,13 @@ public abstract class WaterTrickleBlock extends BlockAA {
             return WaterTrickleEnd.STRAIGHT;
         }
         // If the face under the water trickle is full or if there is a fluid, there is a splash effect.
-        if(!level.getFluidState(bottomPos).getType().equals(Fluids.EMPTY)) {
+        if(!bottomState.getFluidState().getType().equals(Fluids.EMPTY)) {
             return WaterTrickleEnd.SPLASH;
         }
         return WaterTrickleEnd.FADE;
     }
 
-    private BlockPlaceContext generateContext(final Level level, final BlockPos fromPos) {
+    static BlockPlaceContext generateContext(final Level level, final BlockPos fromPos) {
         final Vec3 vec = new Vec3(fromPos.getX() + 0.5D, fromPos.getY(), fromPos.getZ() + 0.5D);
         return new BlockPlaceContext(level, null, MAIN_HAND, ItemStack.EMPTY, new BlockHitResult(vec, Direction.DOWN, fromPos, false));
     }
@@ -300,4 +301,48 @@ public abstract class WaterTrickleBlock extends BlockAA {
     public boolean propagatesSkylightDown(final BlockState p_200123_1_In, final BlockGetter p_200123_2_In, final BlockPos p_200123_3_In) {
         return true;
     }
-}
\ No newline at end of file
+
+    private TrickleTables getTrickleTables() {
+        TrickleTables tables = this.trickleTables;
+        if(tables == null) {
+            tables = new TrickleTables(this);
+            this.trickleTables = tables;
+        }
+        return tables;
+    }
+
+    /**
+     * Lookup tables built once per block, from all its possible BlockStates.
+     */
+    private static final class TrickleTables {
+        // Output mask of each BlockState.
+        private final Reference2IntOpenHashMap<BlockState> outputs = new Reference2IntOpenHashMap<>();
+        // For each BlockState, the 32 BlockStates that only differ by their _TRICKLE properties, indexed by their mask.
+        // The BlockStates of a same row share the same array.
+        private final Reference2ObjectOpenHashMap<BlockState, BlockState[]> rows = new Reference2ObjectOpenHashMap<>();
+
+        private TrickleTables(final WaterTrickleBlock block) {
+            final Reference2ObjectOpenHashMap<BlockState, BlockState[]> rowsByBaseState = new Reference2ObjectOpenHashMap<>();
+            for(final BlockState state : block.getStateDefinition().getPossibleStates()) {
+                this.outputs.put(state, block.computeWaterTrickleOutPut(state));
+                BlockState baseState = state;
+                for(final BooleanProperty property : TRICKLE_PROPERTIES) {
+                    baseState = baseState.setValue(property, false);
+                }
+                this.rows.put(state, rowsByBaseState.computeIfAbsent(baseState, WaterTrickleBlock.TrickleTables::createRow));
+            }
+        }
+
+        private static BlockState[] createRow(final BlockState baseState) {
+            final BlockState[] row = new BlockState[ALL_TRICKLES + 1];
+            for(int trickles = 0; trickles <= ALL_TRICKLES; trickles++) {
+                BlockState state = baseState;
+                for(int i = 0; i < TRICKLE_PROPERTIES.length; i++) {
+                    state = state.setValue(TRICKLE_PROPERTIES[i], (trickles & (1 << i)) != 0);
+                }
+                row[trickles] = state;
+            }
+            return row;
+        }
+    }
+}
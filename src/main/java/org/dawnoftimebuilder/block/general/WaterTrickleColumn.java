@@ -0,0 +1,101 @@
+package org.dawnoftimebuilder.block.general;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LiquidBlockContainer;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.material.Fluids;
+import org.dawnoftimebuilder.registry.DoTBBlocksRegistry;
+import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solves a whole vertical run of water trickles at once : starting from the top of the run (usually a
+ * {@link WaterSourceTrickleBlock} or a {@link org.dawnoftimebuilder.block.templates.FaucetBlock}), computes the final state
+ * of each block of the waterfall, then applies all of them in a single batch.
+ */
+public final class WaterTrickleColumn {
+    // The water trickles of the column are all updated in the same pass, so they don't need to update each other.
+    private static final int COLUMN_UPDATE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+    // Used when a water trickle replaces another block, or is replaced : the shapes of the neighbours are updated.
+    private static final int REPLACE_UPDATE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_IMMEDIATE;
+
+    private WaterTrickleColumn() {}
+
+    /**
+     * Settles the column of water trickles that contains this position.
+     *
+     * @param level World where the water trickle is placed.
+     * @param pos   BlockPos of one of the water trickles of the column.
+     */
+    public static void solve(final Level level, final BlockPos pos) {
+        final BlockPos.MutableBlockPos currentPos = pos.mutable();
+        // We look for the top of the column.
+        while(currentPos.getY() < level.getMaxBuildHeight() - 1 && level.getBlockState(currentPos.above()).getBlock() instanceof WaterTrickleBlock) {
+            currentPos.move(Direction.UP);
+        }
+
+        // First pass, from the top to the bottom : each block inherits the trickles of the solved block above.
+        final List<BlockPos> positions = new ArrayList<>();
+        final List<BlockState> solvedStates = new ArrayList<>();
+        BlockState aboveState = level.getBlockState(currentPos.above());
+        BlockState currentState = level.getBlockState(currentPos);
+        BlockState liquidContainerState = null;
+        while(currentState.getBlock() instanceof WaterTrickleBlock trickleBlock) {
+            final BlockPos bottomPos = currentPos.below();
+            BlockState bottomState = level.getBlockState(bottomPos);
+            final BlockState solvedState = trickleBlock.updateWaterTrickle(level, currentState, bottomPos, bottomState, aboveState);
+            positions.add(currentPos.immutable());
+            solvedStates.add(solvedState);
+            if(!(solvedState.getBlock() instanceof WaterTrickleBlock) || bottomPos.getY() < level.getMinBuildHeight()) {
+                break;
+            }
+
+            // If the block under is not a water trickle and can be replaced and is not liquid, the column continues with a new Flowing Water Trickle.
+            if(!(bottomState.getBlock() instanceof WaterTrickleBlock) && trickleBlock.hasWaterTrickleOutPut(solvedState)) {
+                if(bottomState.canBeReplaced(WaterTrickleBlock.generateContext(level, bottomPos)) && bottomState.getFluidState().getType().equals(Fluids.EMPTY)) {
+                    bottomState = DoTBBlocksRegistry.WATER_FLOWING_TRICKLE.get().defaultBlockState();
+                } else if(bottomState.getBlock() instanceof LiquidBlockContainer container && container.canPlaceLiquid(level, bottomPos, bottomState, Fluids.WATER)) {
+                    liquidContainerState = bottomState;
+                }
+            }
+            aboveState = solvedState;
+            currentState = bottomState;
+            currentPos.move(Direction.DOWN);
+        }
+
+        if(liquidContainerState != null) {
+            ((LiquidBlockContainer) liquidContainerState.getBlock()).placeLiquid(level, currentPos, liquidContainerState, Fluids.WATER.getSource(false));
+        }
+
+        // Second pass, from the bottom to the top : the end of each trickle depends on the solved block under it.
+        final int size = positions.size();
+        for(int i = size - 1; i >= 0; i--) {
+            final BlockState solvedState = solvedStates.get(i);
+            if(solvedState.getBlock() instanceof WaterTrickleBlock trickleBlock) {
+                final BlockPos bottomPos = positions.get(i).below();
+                final BlockState bottomState = i + 1 < size ? solvedStates.get(i + 1) : level.getBlockState(bottomPos);
+                solvedStates.set(i, solvedState.setValue(BlockStatePropertiesAA.WATER_TRICKLE_END, trickleBlock.getWaterTrickleEnd(level, bottomPos, bottomState)).setValue(BlockStateProperties.UNSTABLE, false));
+            }
+        }
+
+        // Finally, the whole column is applied in one batch. Only the block under the column is notified.
+        for(int i = 0; i < size; i++) {
+            final BlockState currentState = level.getBlockState(positions.get(i));
+            final BlockState solvedState = solvedStates.get(i);
+            if(currentState != solvedState) {
+                final boolean trickleChange = currentState.getBlock() instanceof WaterTrickleBlock && solvedState.getBlock() instanceof WaterTrickleBlock;
+                level.setBlock(positions.get(i), solvedState, trickleChange ? COLUMN_UPDATE_FLAGS : REPLACE_UPDATE_FLAGS);
+            }
+        }
+        if(size > 0) {
+            final BlockPos lastPos = positions.get(size - 1);
+            level.neighborShapeChanged(Direction.UP, solvedStates.get(size - 1), lastPos.below(), lastPos, Block.UPDATE_ALL, 512);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import static org.dawnoftimebuilder.util.VoxelShapes.IVY_SHAPES;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import javax.annotation.Nullable;
 import org.dawnoftimebuilder.DoTBConfig;
 import org.dawnoftimebuilder.block.IBlockGeneration;
@@ -259,7 +258,7 @@ public class IvyBlock extends BlockAA implements IBlockGeneration {
             }
         } else {
             if(Utils.useLighter(levelIn, pos, player, handIn)) {
-                Random rand = new Random();
+                RandomSource rand = levelIn.getRandom();
                 for(int i = 0; i < 5; i++) {
                     levelIn.addAlwaysVisibleParticle(ParticleTypes.SMOKE, (double) pos.getX() + rand.nextDouble(), (double) pos.getY() + 0.5D + rand.nextDouble() / 2, (double) pos.getZ() + rand.nextDouble(), 0.0D, 0.07D, 0.0D);
                 }
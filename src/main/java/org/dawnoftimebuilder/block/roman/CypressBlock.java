@@ -28,6 +28,7 @@ import org.dawnoftimebuilder.block.IBlockGeneration;
 import org.dawnoftimebuilder.block.templates.BlockAA;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.world.BlockColumnIndex;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -63,7 +64,7 @@ public class CypressBlock extends BlockAA implements IBlockGeneration {
         final ItemStack heldItemStack = player.getItemInHand(handIn);
         if(player.isCrouching()) {
             //We remove the highest CypressBlock
-            final BlockPos topPos = this.getHighestCypressPos(worldIn, pos);
+            final BlockPos topPos = BlockColumnIndex.getTopPos(worldIn, pos, this);
             if(topPos != pos) {
                 if(!worldIn.isClientSide()) {
                     worldIn.setBlock(topPos, Blocks.AIR.defaultBlockState(), 35);
@@ -75,8 +76,8 @@ public class CypressBlock extends BlockAA implements IBlockGeneration {
             }
         } else if(!heldItemStack.isEmpty() && heldItemStack.getItem() == this.asItem()) {
             //We put a CypressBlock on top of the cypress
-            final BlockPos topPos = this.getHighestCypressPos(worldIn, pos).above();
-            if(topPos.getY() <= Utils.HIGHEST_Y) {
+            final BlockPos topPos = BlockColumnIndex.getTopPos(worldIn, pos, this).above();
+            if(!worldIn.isOutsideBuildHeight(topPos)) {
                 if(!worldIn.isClientSide() && worldIn.getBlockState(topPos).isAir()) {
                     worldIn.setBlock(topPos, this.defaultBlockState(), 11);
                     if(!player.isCreative()) {
@@ -89,14 +90,18 @@ public class CypressBlock extends BlockAA implements IBlockGeneration {
         return super.use(state, worldIn, pos, player, handIn, hit);
     }
 
-    private BlockPos getHighestCypressPos(final Level worldIn, final BlockPos pos) {
-        int yOffset;
-        for(yOffset = 0; yOffset + pos.getY() <= Utils.HIGHEST_Y; yOffset++) {
-            if(worldIn.getBlockState(pos.above(yOffset)).getBlock() != this) {
-                break;
-            }
-        }
-        return pos.above(yOffset - 1);
+    @Override
+    public void onPlace(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState oldState, final boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(!state.is(oldState.getBlock()))
+            BlockColumnIndex.invalidate(worldIn, pos);
+    }
+
+    @Override
+    public void onRemove(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState newState, final boolean isMoving) {
+        if(!state.is(newState.getBlock()))
+            BlockColumnIndex.invalidate(worldIn, pos);
+        super.onRemove(state, worldIn, pos, newState, isMoving);
     }
 
     @Override
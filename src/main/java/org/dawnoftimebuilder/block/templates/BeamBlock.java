@@ -32,7 +32,6 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Random;
 
 import static org.dawnoftimebuilder.util.Utils.TOOLTIP_BEAM;
 import static org.dawnoftimebuilder.util.Utils.TOOLTIP_CLIMBING_PLANT;
@@ -140,7 +139,7 @@ public class BeamBlock extends WaterloggedBlock implements IBlockPillar, IBlockC
         // If the block is not PERSISTENT, we change it to persistent state to prevent plant growth.
         if(!state.getValue(PERSISTENT)) {
             if(Utils.useLighter(worldIn, pos, player, handIn)) {
-                Random rand = new Random();
+                RandomSource rand = worldIn.getRandom();
                 for(int i = 0; i < 5; i++) {
                     worldIn.addAlwaysVisibleParticle(ParticleTypes.SMOKE, (double) pos.getX() + rand.nextDouble(), (double) pos.getY() + 0.5D + rand.nextDouble() / 2, (double) pos.getZ() + rand.nextDouble(), 0.0D, 0.07D, 0.0D);
                 }
@@ -1,14 +1,17 @@
 package org.dawnoftimebuilder.block.templates;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import net.minecraftforge.registries.ForgeRegistries;
 import org.dawnoftimebuilder.DawnOfTimeBuilder;
 import org.jetbrains.annotations.NotNull;
 
@@ -19,6 +22,8 @@ public class BlockAA extends Block {
     private int fireSpreadSpeed = 0;
     private int fireDestructionSpeed = 0;
     private final VoxelShape[] shapes;
+    // VoxelShape of each BlockState, filled by bakeShapes() once the registries are frozen.
+    private volatile Reference2ObjectOpenHashMap<BlockState, VoxelShape> shapeByState;
 
     public BlockAA(Properties properties, VoxelShape[] shapes) {
         super(properties);
@@ -39,6 +44,13 @@ public class BlockAA extends Block {
      */
     @Override
     public @NotNull VoxelShape getShape(@NotNull BlockState state, @NotNull BlockGetter level, @NotNull BlockPos pos, @NotNull CollisionContext context) {
+        final Reference2ObjectOpenHashMap<BlockState, VoxelShape> bakedShapes = this.shapeByState;
+        if(bakedShapes != null) {
+            final VoxelShape shape = bakedShapes.get(state);
+            if(shape != null) {
+                return shape;
+            }
+        }
         try {
             return this.getShape(this.getShapeIndex(state, level, pos, context));
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -64,6 +76,53 @@ public class BlockAA extends Block {
         return 0;
     }
 
+    /**
+     * The VoxelShape of each BlockState is computed once by {@link BlockAA#bakeShapes()}. Override this function and return
+     * true if {@link BlockAA#getShapeIndex(BlockState, BlockGetter, BlockPos, CollisionContext)} uses the world, the position
+     * or the collision context, so that the index is computed on each call.
+     * @return True if the VoxelShape can't be deduced from the BlockState alone.
+     */
+    protected boolean hasPositionDependentShape() {
+        return false;
+    }
+
+    /**
+     * Computes the VoxelShape of every BlockState of this block, so that {@link BlockAA#getShape(BlockState, BlockGetter, BlockPos, CollisionContext)}
+     * becomes a single lookup.
+     * @return True if the shapes have been baked.
+     */
+    public boolean bakeShapes() {
+        if(this.hasPositionDependentShape()) {
+            return false;
+        }
+        final Reference2ObjectOpenHashMap<BlockState, VoxelShape> bakedShapes = new Reference2ObjectOpenHashMap<>();
+        for(BlockState state : this.getStateDefinition().getPossibleStates()) {
+            try {
+                bakedShapes.put(state, this.getShape(this.getShapeIndex(state, EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty())));
+            } catch (ArrayIndexOutOfBoundsException e) {
+                // The error is logged again if this BlockState is queried.
+                DawnOfTimeBuilder.LOG.error(MOD_ID + " : Error in the VoxelShape of the block : " + this.getName().getString() + " for " + state);
+            }
+        }
+        this.shapeByState = bakedShapes;
+        return true;
+    }
+
+    /**
+     * Bakes the VoxelShapes of all the registered BlockAA. Must be called once the block registry is frozen.
+     */
+    public static void bakeAllShapes() {
+        int bakedBlocks = 0;
+        int bakedStates = 0;
+        for(Block block : ForgeRegistries.BLOCKS.getValues()) {
+            if(block instanceof BlockAA blockAA && blockAA.bakeShapes()) {
+                bakedBlocks++;
+                bakedStates += block.getStateDefinition().getPossibleStates().size();
+            }
+        }
+        DawnOfTimeBuilder.LOG.info(MOD_ID + " : Baked the VoxelShapes of " + bakedStates + " BlockStates from " + bakedBlocks + " blocks.");
+    }
+
     /**
      * Set Encouragement to 5 and Flammability to 20
      *
@@ -19,6 +19,8 @@ import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
+import org.dawnoftimebuilder.util.ShapeTable;
+import org.dawnoftimebuilder.util.VoxelShapesBuilder;
 
 import java.util.Map;
 
@@ -42,55 +44,15 @@ public class CappedWallBlock extends Block implements SimpleWaterloggedBlock {
     public CappedWallBlock(Properties properties) {
         super(properties);
         this.registerDefaultState(this.stateDefinition.any().setValue(PILLAR, WallSide.LOW).setValue(NORTH_WALL, WallSide.NONE).setValue(EAST_WALL, WallSide.NONE).setValue(SOUTH_WALL, WallSide.NONE).setValue(WEST_WALL, WallSide.NONE).setValue(WATERLOGGED, false));
-        this.shapeByIndex = this.makeShapes(16.0F, 14.0F);
-        this.collisionShapeByIndex = this.makeShapes(24.0F, 24.0F);
+        this.shapeByIndex = this.makeShapes(ShapeTable.CAPPED_WALL.get());
+        this.collisionShapeByIndex = this.makeShapes(ShapeTable.CAPPED_WALL_COLLISION.get());
     }
 
-    private static VoxelShape applyWallShape(VoxelShape mainShape, WallSide height, VoxelShape newShape, VoxelShape p_235631_3_) {
-        if(height == WallSide.TALL) {
-            return Shapes.or(mainShape, p_235631_3_);
-        } else {
-            return height == WallSide.LOW ? Shapes.or(mainShape, newShape) : mainShape;
-        }
-    }
-
-    private Map<BlockState, VoxelShape> makeShapes(float sizePillarVertical, float sizeWallVertical) {
-        float sizePillarStart = 4.0F;
-        float sizePillarEnd = 12.0F;
-        float sizeWallStart = 5.0F;
-        float sizeWallEnd = 11.0F;
-        VoxelShape voxelshape = Block.box(sizePillarStart, 0.0D, sizePillarStart, sizePillarEnd, sizePillarVertical, sizePillarEnd);
-        VoxelShape voxelshape1 = Block.box(sizeWallStart, 0.0D, 0.0D, sizeWallEnd, sizeWallVertical, sizeWallEnd);
-        VoxelShape voxelshape2 = Block.box(sizeWallStart, 0.0D, sizeWallStart, sizeWallEnd, sizeWallVertical, 16.0D);
-        VoxelShape voxelshape3 = Block.box(0.0D, 0.0D, sizeWallStart, sizeWallEnd, sizeWallVertical, sizeWallEnd);
-        VoxelShape voxelshape4 = Block.box(sizeWallStart, 0.0D, sizeWallStart, 16.0D, sizeWallVertical, sizeWallEnd);
-        VoxelShape voxelshape5 = Block.box(sizeWallStart, 0.0D, 0.0D, sizeWallEnd, sizePillarVertical, sizeWallEnd);
-        VoxelShape voxelshape6 = Block.box(sizeWallStart, 0.0D, sizeWallStart, sizeWallEnd, sizePillarVertical, 16.0D);
-        VoxelShape voxelshape7 = Block.box(0.0D, 0.0D, sizeWallStart, sizeWallEnd, sizePillarVertical, sizeWallEnd);
-        VoxelShape voxelshape8 = Block.box(sizeWallStart, 0.0D, sizeWallStart, 16.0D, sizePillarVertical, sizeWallEnd);
+    private Map<BlockState, VoxelShape> makeShapes(VoxelShape[] shapes) {
         ImmutableMap.Builder<BlockState, VoxelShape> builder = ImmutableMap.builder();
 
-        for(WallSide pillarStates : PILLAR.getPossibleValues()) {
-            for(WallSide eastState : EAST_WALL.getPossibleValues()) {
-                for(WallSide northState : NORTH_WALL.getPossibleValues()) {
-                    for(WallSide westState : WEST_WALL.getPossibleValues()) {
-                        for(WallSide southState : SOUTH_WALL.getPossibleValues()) {
-                            VoxelShape mainShape = Shapes.empty();
-                            mainShape = applyWallShape(mainShape, eastState, voxelshape4, voxelshape8);
-                            mainShape = applyWallShape(mainShape, westState, voxelshape3, voxelshape7);
-                            mainShape = applyWallShape(mainShape, northState, voxelshape1, voxelshape5);
-                            mainShape = applyWallShape(mainShape, southState, voxelshape2, voxelshape6);
-                            if(pillarStates != WallSide.NONE) {
-                                mainShape = Shapes.or(mainShape, voxelshape);
-                            }
-
-                            BlockState blockstate = this.defaultBlockState().setValue(PILLAR, pillarStates).setValue(EAST_WALL, eastState).setValue(WEST_WALL, westState).setValue(NORTH_WALL, northState).setValue(SOUTH_WALL, southState);
-                            builder.put(blockstate.setValue(WATERLOGGED, false), mainShape);
-                            builder.put(blockstate.setValue(WATERLOGGED, true), mainShape);
-                        }
-                    }
-                }
-            }
+        for(BlockState blockstate : this.getStateDefinition().getPossibleStates()) {
+            builder.put(blockstate, shapes[VoxelShapesBuilder.getCappedWallShapeIndex(blockstate.getValue(PILLAR), blockstate.getValue(EAST_WALL), blockstate.getValue(NORTH_WALL), blockstate.getValue(WEST_WALL), blockstate.getValue(SOUTH_WALL))]);
         }
         return builder.build();
     }
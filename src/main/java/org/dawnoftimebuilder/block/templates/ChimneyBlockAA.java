@@ -1,7 +1,6 @@
 package org.dawnoftimebuilder.block.templates;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundEvents;
@@ -17,7 +16,6 @@ import net.minecraft.world.item.alchemy.PotionUtils;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
@@ -29,9 +27,8 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.dawnoftimebuilder.block.general.FireplaceBlock;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
-import org.dawnoftimebuilder.util.BlockStatePropertiesAA.VerticalConnection;
 import org.dawnoftimebuilder.util.Utils;
-import org.jetbrains.annotations.NotNull;
+import org.dawnoftimebuilder.world.ChimneyConduitRegistry;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -83,8 +80,9 @@ public class ChimneyBlockAA extends ConnectedVerticalBlock {
         if(activation >= 0) {
             final boolean isActivated = activation == 1;
 
-            ChimneyBlockAA.updateAllChimneyConductParts(isActivated, blockStateIn, blockPosIn, worldIn);
-            ChimneyBlockAA.updateFireplace(isActivated, blockPosIn, worldIn);
+            if(!worldIn.isClientSide()) {
+                ChimneyConduitRegistry.get(worldIn).setLit(worldIn, blockPosIn, isActivated);
+            }
 
             return InteractionResult.SUCCESS;
         }
@@ -108,7 +106,7 @@ public class ChimneyBlockAA extends ConnectedVerticalBlock {
             final boolean isActivated = activation == 1;
 
             if(!worldIn.isClientSide()) {
-                ChimneyBlockAA.updateAllChimneyConductParts(isActivated, state, pos, worldIn);
+                ChimneyConduitRegistry.get(worldIn).setLit(worldIn, pos, isActivated);
                 worldIn.playSound(null, pos, isActivated ? SoundEvents.FIRE_AMBIENT : SoundEvents.FIRE_EXTINGUISH, SoundSource.BLOCKS, 1.0F, 1.0F);
             } else if(!isActivated && worldIn.isClientSide()) {
                 for(int i = 0; i < worldIn.random.nextInt(1) + 1; ++i) {
@@ -124,19 +122,26 @@ public class ChimneyBlockAA extends ConnectedVerticalBlock {
         if(stateIn.getValue(WaterloggedBlock.WATERLOGGED) || !stateIn.getValue(BlockStateProperties.LIT)) {
             return;
         }
-        if(stateIn.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.UNDER || stateIn.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.NONE) {
+        // Only the top of the stack smokes, even if the chimney above is of another kind.
+        if((stateIn.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.UNDER || stateIn.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.NONE)
+                && !(worldIn.getBlockState(pos.above()).getBlock() instanceof ChimneyBlockAA)) {
             worldIn.addParticle(ParticleTypes.CAMPFIRE_SIGNAL_SMOKE, true, pos.getX() + rand.nextDouble() * 0.5D + 0.25D, pos.getY() + rand.nextDouble() * 0.5D + 0.3D, pos.getZ() + rand.nextDouble() * 0.5D + 0.25D, 0.0D, 0.07D, 0.0D);
             worldIn.addParticle(ParticleTypes.CAMPFIRE_SIGNAL_SMOKE, pos.getX() + rand.nextDouble() * 0.5D + 0.25D, pos.getY() + rand.nextDouble() * 0.5D + 0.3D, pos.getZ() + rand.nextDouble() * 0.5D + 0.25D, 0.0D, 0.04D, 0.0D);
         }
     }
 
     @Override
-    public @NotNull BlockState updateShape(BlockState stateIn, @NotNull Direction facing, @NotNull BlockState facingState, @NotNull LevelAccessor worldIn, @NotNull BlockPos currentPos, @NotNull BlockPos facingPos) {
-        if(facingState.getBlock() instanceof ChimneyBlockAA || facingState.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
-            stateIn.setValue(LIT, facingState.getValue(LIT));
-        }
+    public void onPlace(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState oldState, final boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(!state.is(oldState.getBlock()))
+            ChimneyConduitRegistry.get(worldIn).invalidate(pos);
+    }
 
-        return super.updateShape(stateIn, facing, facingState, worldIn, currentPos, facingPos);
+    @Override
+    public void onRemove(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState newState, final boolean isMoving) {
+        if(!state.is(newState.getBlock()))
+            ChimneyConduitRegistry.get(worldIn).invalidate(pos);
+        super.onRemove(state, worldIn, pos, newState, isMoving);
     }
 
     @Override
@@ -144,47 +149,4 @@ public class ChimneyBlockAA extends ConnectedVerticalBlock {
         super.appendHoverText(stack, worldIn, tooltip, flagIn);
         Utils.addTooltip(tooltip, Utils.TOOLTIP_FIREPLACE);
     }
-
-    public static void updateAllChimneyConductParts(final boolean isActivatedIn, BlockState stateIn, final BlockPos blockPosIn, final Level worldIn) {
-        stateIn = stateIn.setValue(BlockStateProperties.LIT, isActivatedIn);
-        worldIn.setBlock(blockPosIn, stateIn, 10);
-        ChimneyBlockAA.updateIsActivatedInAllPartsOfBottom(isActivatedIn, stateIn, blockPosIn, worldIn);
-        ChimneyBlockAA.updateIsActivatedInAllPartsOfTop(isActivatedIn, stateIn, blockPosIn, worldIn);
-    }
-
-    public static void updateIsActivatedInAllPartsOfBottom(final boolean isActivatedIn, final BlockState stateIn, final BlockPos blockPosIn, final Level worldIn) {
-        BlockState blockState = null;
-        BlockPos blockPos = blockPosIn;
-        while((blockState = worldIn.getBlockState(blockPos = blockPos.below())) != null && blockState.getBlock() instanceof ChimneyBlockAA) {
-            blockState = blockState.setValue(BlockStateProperties.LIT, isActivatedIn);
-            worldIn.setBlock(blockPos, blockState, 10);
-        }
-    }
-
-    public static void updateIsActivatedInAllPartsOfTop(final boolean isActivatedIn, final BlockState stateIn, final BlockPos blockPosIn, final Level worldIn) {
-        BlockState blockState = null;
-        BlockPos blockPos = blockPosIn;
-        while((blockState = worldIn.getBlockState(blockPos = blockPos.above())) != null && blockState.getBlock() instanceof ChimneyBlockAA) {
-            blockState = blockState.setValue(BlockStateProperties.LIT, isActivatedIn);
-            worldIn.setBlock(blockPos, blockState, 10);
-        }
-    }
-
-    public static void updateFireplace(final boolean isActivatedIn, final BlockPos blockPosIn, final Level worldIn) {
-        BlockState blockState = null;
-        BlockPos blockPos = blockPosIn;
-        while((blockState = worldIn.getBlockState(blockPos = blockPos.below())) != null && blockState.getBlock() instanceof ChimneyBlockAA) {
-        }
-
-        while((blockState = worldIn.getBlockState(blockPos = blockPos.below())) != null && blockState.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
-            final VerticalConnection verticalConnection = blockState.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION);
-            if(verticalConnection != null && VerticalConnection.ABOVE.equals(verticalConnection)) {
-                blockState = blockState.setValue(BlockStateProperties.LIT, isActivatedIn);
-                worldIn.setBlock(blockPos, blockState, 10);
-                final Direction direction = blockState.getValue(ConnectedVerticalSidedBlock.FACING);
-                worldIn.getBlockState(blockPos.relative(direction.getCounterClockWise())).neighborChanged(worldIn, blockPos.relative(direction.getCounterClockWise()), blockState.getBlock(), blockPos, false);
-                worldIn.getBlockState(blockPos.relative(direction.getClockWise())).neighborChanged(worldIn, blockPos.relative(direction.getClockWise()), blockState.getBlock(), blockPos, false);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.world.BlockColumnIndex;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -70,7 +71,7 @@ public class ConnectedVerticalBlock extends WaterloggedBlock {
             if(state.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.NONE) {
                 return super.use(state, worldIn, pos, player, handIn, hit);
             }
-            final BlockPos topPos = this.getHighestColumnPos(worldIn, pos);
+            final BlockPos topPos = BlockColumnIndex.getTopPos(worldIn, pos, this);
             if(topPos != pos) {
                 if(!worldIn.isClientSide()) {
                     worldIn.setBlock(topPos, Blocks.AIR.defaultBlockState(), 35);
@@ -82,8 +83,8 @@ public class ConnectedVerticalBlock extends WaterloggedBlock {
             }
         } else if(!heldItemStack.isEmpty() && heldItemStack.getItem() == this.asItem()) {
             //We put a ColumnBlock on top of the column
-            final BlockPos topPos = this.getHighestColumnPos(worldIn, pos).above();
-            if(topPos.getY() <= Utils.HIGHEST_Y) {
+            final BlockPos topPos = BlockColumnIndex.getTopPos(worldIn, pos, this).above();
+            if(!worldIn.isOutsideBuildHeight(topPos)) {
                 if(worldIn.getBlockState(topPos).isAir()) {
                     if (!worldIn.isClientSide()) {
                         worldIn.setBlock(topPos, state, 11);
@@ -98,14 +99,18 @@ public class ConnectedVerticalBlock extends WaterloggedBlock {
         return super.use(state, worldIn, pos, player, handIn, hit);
     }
 
-    private BlockPos getHighestColumnPos(final Level worldIn, final BlockPos pos) {
-        int yOffset;
-        for(yOffset = 0; yOffset + pos.getY() <= Utils.HIGHEST_Y; yOffset++) {
-            if(worldIn.getBlockState(pos.above(yOffset)).getBlock() != this) {
-                break;
-            }
-        }
-        return pos.above(yOffset - 1);
+    @Override
+    public void onPlace(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState oldState, final boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(!state.is(oldState.getBlock()))
+            BlockColumnIndex.invalidate(worldIn, pos);
+    }
+
+    @Override
+    public void onRemove(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState newState, final boolean isMoving) {
+        if(!state.is(newState.getBlock()))
+            BlockColumnIndex.invalidate(worldIn, pos);
+        super.onRemove(state, worldIn, pos, newState, isMoving);
     }
 
     @Override
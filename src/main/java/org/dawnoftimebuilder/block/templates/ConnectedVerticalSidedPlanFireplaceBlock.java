@@ -31,8 +31,8 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.dawnoftimebuilder.block.general.FireplaceBlock;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
-import org.dawnoftimebuilder.util.BlockStatePropertiesAA.HorizontalConnection;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.world.ChimneyConduitRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -70,12 +70,9 @@ public class ConnectedVerticalSidedPlanFireplaceBlock extends ConnectedVerticalS
         if(stateIn.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) != BlockStatePropertiesAA.VerticalConnection.BOTH && stateIn.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION) != BlockStatePropertiesAA.VerticalConnection.UNDER) {
             final int activation = Utils.changeBlockLitStateWithItemOrCreativePlayer(stateIn, worldIn, pos, player, handIn);
             if(activation >= 0) {
-                final Direction direction = stateIn.getValue(ConnectedVerticalSidedBlock.FACING);
-                worldIn.getBlockState(pos.relative(direction.getCounterClockWise())).neighborChanged(worldIn, pos.relative(direction.getCounterClockWise()), this, pos, false);
-                worldIn.getBlockState(pos.relative(direction.getClockWise())).neighborChanged(worldIn, pos.relative(direction.getClockWise()), stateIn.getBlock(), pos, false);
-
-                ConnectedVerticalSidedPlanFireplaceBlock.updateChimneys(activation == 1, stateIn, pos, worldIn);
-
+                if(!worldIn.isClientSide()) {
+                    ChimneyConduitRegistry.get(worldIn).setLit(worldIn, pos, activation == 1);
+                }
                 return InteractionResult.SUCCESS;
             }
             return InteractionResult.FAIL;
@@ -85,7 +82,7 @@ public class ConnectedVerticalSidedPlanFireplaceBlock extends ConnectedVerticalS
     }
 
     @Override
-    public void onProjectileHit(final Level worldIn, BlockState state, final BlockHitResult hit, final Projectile projectile) {
+    public void onProjectileHit(final Level worldIn, final BlockState state, final BlockHitResult hit, final Projectile projectile) {
 
         int activation = -1;
 
@@ -102,20 +99,13 @@ public class ConnectedVerticalSidedPlanFireplaceBlock extends ConnectedVerticalS
             final boolean isActivated = activation == 1;
 
             if(!worldIn.isClientSide()) {
-                state = state.setValue(FireplaceBlock.LIT, isActivated);
-                worldIn.setBlock(pos, state, 10);
+                ChimneyConduitRegistry.get(worldIn).setLit(worldIn, pos, isActivated);
                 worldIn.playSound(null, pos, isActivated ? SoundEvents.FIRE_AMBIENT : SoundEvents.FIRE_EXTINGUISH, SoundSource.BLOCKS, 1.0F, 1.0F);
             } else if(!isActivated && worldIn.isClientSide()) {
                 for(int i = 0; i < worldIn.random.nextInt(1) + 1; ++i) {
                     worldIn.addParticle(ParticleTypes.CLOUD, pos.getX() + 0.5F, pos.getY() + 0.5F, pos.getZ() + 0.5F, worldIn.random.nextFloat() / 4.0F, 2.5E-5D, worldIn.random.nextFloat() / 4.0F);
                 }
             }
-
-            ConnectedVerticalSidedPlanFireplaceBlock.updateChimneys(isActivated, state, pos, worldIn);
-
-            final Direction direction = state.getValue(ConnectedVerticalSidedBlock.FACING);
-            worldIn.getBlockState(pos.relative(direction.getClockWise())).neighborChanged(worldIn, pos.relative(direction.getClockWise()), this, pos, false);
-            worldIn.getBlockState(pos.relative(direction.getCounterClockWise())).neighborChanged(worldIn, pos.relative(direction.getCounterClockWise()), this, pos, false);
         }
     }
 
@@ -145,68 +135,18 @@ public class ConnectedVerticalSidedPlanFireplaceBlock extends ConnectedVerticalS
         }
     }
 
-    public static void updateChimneys(final boolean isActivatedIn, final BlockState blockStateIn, final BlockPos posIn, final Level worldIn) {
-        BlockPos pos = posIn;
-        BlockState blockState = null;
-        while((blockState = worldIn.getBlockState(pos)) != null && blockState.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
-            pos = pos.above();
-        }
-        pos = pos.below();
-        // UP
-        ConnectedVerticalSidedPlanFireplaceBlock.updateChimneyConductsAtSide(isActivatedIn, pos.above(), worldIn);
-        // Sides
-        ConnectedVerticalSidedPlanFireplaceBlock.updateRightChimneys(isActivatedIn, blockStateIn, pos, worldIn);
-        ConnectedVerticalSidedPlanFireplaceBlock.updateLeftChimneys(isActivatedIn, blockStateIn, pos, worldIn);
-    }
-
-    public static void updateLeftChimneys(final boolean isActivatedIn, final BlockState blockStateIn, final BlockPos posIn, final Level worldIn) {
-        ConnectedVerticalSidedPlanFireplaceBlock.updateChimneyConductsAtSide(isActivatedIn, posIn.above(), worldIn);
-        final Direction facing = blockStateIn.getValue(ConnectedVerticalSidedBlock.FACING);
-        final HorizontalConnection horizontalConnection = blockStateIn.getValue(ConnectedVerticalSidedPlanBlock.HORIZONTAL_CONNECTION);
-        if((HorizontalConnection.RIGHT.equals(horizontalConnection) || HorizontalConnection.BOTH.equals(horizontalConnection))) {
-
-            BlockPos rightBlockPos = null;
-            if(Direction.NORTH.equals(facing) || Direction.SOUTH.equals(facing)) {
-                rightBlockPos = posIn.offset(-1, 0, 0);
-            } else if(Direction.EAST.equals(facing) || Direction.WEST.equals(facing)) {
-                rightBlockPos = posIn.offset(0, 0, -1);
-            }
-
-            final BlockState leftBlockState = worldIn.getBlockState(rightBlockPos);
-
-            if(leftBlockState.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
-                ConnectedVerticalSidedPlanFireplaceBlock.updateLeftChimneys(isActivatedIn, blockStateIn, rightBlockPos, worldIn);
-            }
-        }
-    }
-
-    public static void updateRightChimneys(final boolean isActivatedIn, final BlockState blockStateIn, final BlockPos posIn, final Level worldIn) {
-        ConnectedVerticalSidedPlanFireplaceBlock.updateChimneyConductsAtSide(isActivatedIn, posIn.above(), worldIn);
-
-        final Direction facing = blockStateIn.getValue(ConnectedVerticalSidedBlock.FACING);
-        final HorizontalConnection horizontalConnection = blockStateIn.getValue(ConnectedVerticalSidedPlanBlock.HORIZONTAL_CONNECTION);
-        if((HorizontalConnection.LEFT.equals(horizontalConnection) || HorizontalConnection.BOTH.equals(horizontalConnection))) {
-
-            BlockPos rightBlockPos = null;
-            if(Direction.NORTH.equals(facing) || Direction.SOUTH.equals(facing)) {
-                rightBlockPos = posIn.offset(1, 0, 0);
-            } else if(Direction.EAST.equals(facing) || Direction.WEST.equals(facing)) {
-                rightBlockPos = posIn.offset(0, 0, 1);
-            }
-
-            final BlockState rightBlockState = worldIn.getBlockState(rightBlockPos);
-
-            if(rightBlockState.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
-                ConnectedVerticalSidedPlanFireplaceBlock.updateRightChimneys(isActivatedIn, blockStateIn, rightBlockPos, worldIn);
-            }
-        }
+    @Override
+    public void onPlace(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState oldState, final boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(!state.is(oldState.getBlock()) || state.getValue(ConnectedVerticalSidedBlock.FACING) != oldState.getValue(ConnectedVerticalSidedBlock.FACING))
+            ChimneyConduitRegistry.get(worldIn).invalidate(pos);
     }
 
-    public static void updateChimneyConductsAtSide(final boolean isActivatedIn, final BlockPos blockPosIn, final Level worldIn) {
-        final BlockState blockState = worldIn.getBlockState(blockPosIn);
-        if(blockState.getBlock() instanceof ChimneyBlockAA) {
-            ChimneyBlockAA.updateAllChimneyConductParts(isActivatedIn, blockState, blockPosIn, worldIn);
-        }
+    @Override
+    public void onRemove(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState newState, final boolean isMoving) {
+        if(!state.is(newState.getBlock()) || state.getValue(ConnectedVerticalSidedBlock.FACING) != newState.getValue(ConnectedVerticalSidedBlock.FACING))
+            ChimneyConduitRegistry.get(worldIn).invalidate(pos);
+        super.onRemove(state, worldIn, pos, newState, isMoving);
     }
 
     @Override
@@ -18,8 +18,8 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.network.NetworkHooks;
 import org.dawnoftimebuilder.blockentity.DisplayerBlockEntity;
+import org.dawnoftimebuilder.util.Utils;
 
-import static net.minecraft.world.Containers.dropItemStack;
 import static net.minecraftforge.common.capabilities.ForgeCapabilities.ITEM_HANDLER;
 import static org.dawnoftimebuilder.registry.DoTBBlockEntitiesRegistry.DISPLAYER;
 
@@ -59,11 +59,7 @@ public abstract class DisplayerBlock extends WaterloggedBlock implements EntityB
         if(oldState.getBlock() != newState.getBlock()) {
             BlockEntity tileEntity = worldIn.getBlockEntity(pos);
             if(tileEntity instanceof DisplayerBlockEntity) {
-                tileEntity.getCapability(ITEM_HANDLER).ifPresent(h -> {
-                    for(int index = 0; index < 9; index++) {
-                        dropItemStack(worldIn, pos.getX(), pos.getY(), pos.getZ(), h.getStackInSlot(index));
-                    }
-                });
+                tileEntity.getCapability(ITEM_HANDLER).ifPresent(h -> Utils.dropItemHandlerContent(worldIn, pos, h));
             }
         }
         super.onRemove(oldState, worldIn, pos, newState, isMoving);
@@ -20,6 +20,7 @@ import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.PlantType;
+import org.dawnoftimebuilder.util.VoxelShapesBuilder;
 
 import javax.annotation.Nullable;
 
@@ -31,7 +32,7 @@ public class DoubleCropsBlock extends SoilCropsBlock {
     public DoubleCropsBlock(PlantType plantType, int growingAge) {
         super(plantType);
         this.growingAge = growingAge;
-        this.SHAPES = this.makeShapes();
+        this.SHAPES = VoxelShapesBuilder.intern(this.makeShapes());
         this.registerDefaultState(this.defaultBlockState().setValue(HALF, Half.BOTTOM).setValue(this.getAgeProperty(), 0).setValue(PERSISTENT, false));
     }
 
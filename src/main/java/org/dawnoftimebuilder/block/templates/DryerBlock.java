@@ -12,8 +12,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
@@ -24,13 +22,11 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import org.dawnoftimebuilder.blockentity.DryerBlockEntity;
 import org.dawnoftimebuilder.registry.DoTBBlockEntitiesRegistry;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
+import org.dawnoftimebuilder.util.Utils;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 
-import static net.minecraft.world.Containers.dropItemStack;
-import static net.minecraftforge.common.capabilities.ForgeCapabilities.ITEM_HANDLER;
-
 public class DryerBlock extends WaterloggedBlock implements EntityBlock {
     //TODO Add redstone compatibility : ie emit redstone when dried
     public static final IntegerProperty SIZE = BlockStatePropertiesAA.SIZE_0_2;
@@ -40,12 +36,6 @@ public class DryerBlock extends WaterloggedBlock implements EntityBlock {
         this.registerDefaultState(this.defaultBlockState().setValue(DryerBlock.SIZE, 0));
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level pLevel, BlockState pState, BlockEntityType<T> pBlockEntityType) {
-        return !pLevel.isClientSide() ? (pLevel1, pPos, pState1, pBlockEntity) -> ((DryerBlockEntity)pBlockEntity).tick() : null;
-    }
-
     @Override
     protected void createBlockStateDefinition(final StateDefinition.Builder<Block, BlockState> builder) {
         super.createBlockStateDefinition(builder);
@@ -81,16 +71,27 @@ public class DryerBlock extends WaterloggedBlock implements EntityBlock {
     public void onRemove(final BlockState oldState, final Level worldIn, final BlockPos pos, final BlockState newState, final boolean isMoving) {
         if(oldState.getBlock() != newState.getBlock()) {
             final BlockEntity tileEntity = worldIn.getBlockEntity(pos);
-            if(tileEntity instanceof DryerBlockEntity) {
-                tileEntity.getCapability(ITEM_HANDLER).ifPresent(h -> {
-                    dropItemStack(worldIn, pos.getX(), pos.getY(), pos.getZ(), h.getStackInSlot(0));
-                    dropItemStack(worldIn, pos.getX(), pos.getY(), pos.getZ(), h.getStackInSlot(1));
-                });
+            if(tileEntity instanceof DryerBlockEntity dryerBlockEntity) {
+                dryerBlockEntity.invalidateRack();
+                Utils.dropItemHandlerContent(worldIn, pos, dryerBlockEntity.getItemHandler());
             }
         }
         super.onRemove(oldState, worldIn, pos, newState, isMoving);
     }
 
+    @Override
+    public void onPlace(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState oldState, final boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(oldState.getBlock() != state.getBlock()) {
+            // The racks around are built again, to include this dryer.
+            for(Direction direction : Direction.values()) {
+                if(worldIn.getBlockEntity(pos.relative(direction)) instanceof DryerBlockEntity dryerBlockEntity) {
+                    dryerBlockEntity.invalidateRack();
+                }
+            }
+        }
+    }
+
     @Override
     public boolean canSurvive(final BlockState state, final LevelReader worldIn, BlockPos pos) {
         pos = pos.below();
@@ -44,16 +44,11 @@ public class FaucetBlock extends WaterSourceTrickleBlock {
     }
 
     @Override
-    public boolean[] getWaterTrickleOutPut(BlockState currentState) {
+    protected int computeWaterTrickleOutPut(BlockState currentState) {
         if(!currentState.getValue(BlockStatePropertiesAA.ACTIVATED)) {
-            return new boolean[] {
-                    currentState.getValue(BlockStatePropertiesAA.NORTH_TRICKLE),
-                    currentState.getValue(BlockStatePropertiesAA.EAST_TRICKLE),
-                    currentState.getValue(BlockStatePropertiesAA.SOUTH_TRICKLE),
-                    currentState.getValue(BlockStatePropertiesAA.WEST_TRICKLE),
-                    currentState.getValue(BlockStatePropertiesAA.CENTER_TRICKLE) };
+            return getWaterTrickles(currentState);
         }
-        return super.getWaterTrickleOutPut(currentState);
+        return super.computeWaterTrickleOutPut(currentState);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.dawnoftimebuilder.block.templates;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -42,7 +43,7 @@ public class FlowerPotBlockAA extends BlockAA implements IBlockSpecialDisplay {
         return super.use(state, world, pos, entity, hand, ray);
     }
 
-    public BlockState getRandomState() {
+    public BlockState getRandomState(RandomSource random) {
         return this.defaultBlockState();
     }
 
@@ -25,6 +25,7 @@ import net.minecraftforge.common.PlantType;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.util.VoxelShapesBuilder;
 
 import java.util.List;
 
@@ -40,7 +41,7 @@ public class GrowingBushBlock extends SoilCropsBlock {
         super(plantType);
         this.cutAge = cutAge;
         this.registerDefaultState(this.stateDefinition.any().setValue(AGE, 0).setValue(CUT, false).setValue(PERSISTENT, false));
-        this.SHAPES = this.makeShapes();
+        this.SHAPES = VoxelShapesBuilder.intern(this.makeShapes());
     }
 
     @Override
@@ -27,7 +27,6 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Random;
 
 import static net.minecraft.tags.BlockTags.DIRT;
 import static org.dawnoftimebuilder.util.Utils.TOOLTIP_CLIMBING_PLANT;
@@ -121,7 +120,7 @@ public class LatticeBlock extends WaterloggedBlock implements IBlockClimbingPlan
     public InteractionResult use(BlockState state, Level worldIn, BlockPos pos, Player player, InteractionHand handIn, BlockHitResult hit) {
         if(!state.getValue(PERSISTENT)) {
             if(Utils.useLighter(worldIn, pos, player, handIn)) {
-                Random rand = new Random();
+                RandomSource rand = worldIn.getRandom();
                 for(int i = 0; i < 5; i++) {
                     worldIn.addParticle(ParticleTypes.SMOKE, (double) pos.getX() + rand.nextDouble(), (double) pos.getY() + 0.5D + rand.nextDouble() / 2, (double) pos.getZ() + rand.nextDouble(), 0.0D, 0.07D, 0.0D);
                 }
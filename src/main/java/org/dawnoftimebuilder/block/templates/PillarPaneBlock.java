@@ -8,6 +8,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.dawnoftimebuilder.util.VoxelShapesBuilder;
 
 public class PillarPaneBlock extends PaneBlockAA {
     private static final VoxelShape[] SHAPES_PILLAR = makeShapesPillar(true);
@@ -61,6 +62,6 @@ public class PillarPaneBlock extends PaneBlockAA {
             all_vs[i] = Shapes.or(poll, all_vs[i]);
         }
 
-        return all_vs;
+        return VoxelShapesBuilder.intern(all_vs);
     }
 }
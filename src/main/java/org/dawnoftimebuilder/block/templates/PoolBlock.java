@@ -1,5 +1,6 @@
 package org.dawnoftimebuilder.block.templates;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
@@ -27,13 +28,13 @@ import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.dawnoftimebuilder.block.general.WaterTrickleBlock;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
+import org.dawnoftimebuilder.util.PoolTraversal;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.world.PoolNetworkData;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 public class PoolBlock extends BlockAA {
 
@@ -78,7 +79,7 @@ public class PoolBlock extends BlockAA {
     public BlockState getStateForPlacement(final BlockPlaceContext contextIn) {
         /*
          * Determined sides AND level by the highest level of surrounding adjacent pools. If none is found or the highest level is equal to 0, checks if a tap or a trickle of water exists above this pool or one of the adjacent
-         * pools around, if yes, applies the level to 1 and launches a tick schedule otherwise the level is 0.
+         * pools around, if yes, applies the level to 1 (the filling of the basin is scheduled in onPlace) otherwise the level is 0.
          */
         final PoolLevelAndSides levelAndSides = PoolBlock.levelOfPoolAround(contextIn.getClickedPos(), contextIn.getLevel());
         BlockState state = this.defaultBlockState().setValue(BlockStateProperties.NORTH, levelAndSides.south).setValue(BlockStateProperties.SOUTH, levelAndSides.north).setValue(BlockStateProperties.EAST, levelAndSides.right).setValue(BlockStateProperties.WEST, levelAndSides.left);
@@ -86,9 +87,6 @@ public class PoolBlock extends BlockAA {
         int level = levelAndSides.level;
         if(level <= 0 && EnumActivatorState.ENABLED.equals(PoolBlock.hasOnePoolActivatorAround(contextIn.getClickedPos(), contextIn.getLevel()))) {
             level = 1;
-            if(!contextIn.getLevel().isClientSide()) {
-                contextIn.getLevel().scheduleTick(contextIn.getClickedPos(), this, 5);
-            }
         }
 
         state = state.setValue(BlockStatePropertiesAA.LEVEL, level);
@@ -189,37 +187,38 @@ public class PoolBlock extends BlockAA {
         }
     }
 
+    /**
+     * The filling and draining of the pools is done by basin in PoolNetworkData. Scheduled ticks (from older worlds or
+     * other mods) only schedule a step of the basin.
+     */
     @SuppressWarnings("deprecation")
     @Override
-    public void tick(BlockState blockStateIn, final ServerLevel serverWorldIn, final BlockPos blockPosIn, final RandomSource randomIn) {
+    public void tick(final BlockState blockStateIn, final ServerLevel serverWorldIn, final BlockPos blockPosIn, final RandomSource randomIn) {
         super.tick(blockStateIn, serverWorldIn, blockPosIn, randomIn);
+        PoolNetworkData.get(serverWorldIn).scheduleStep(serverWorldIn, blockPosIn);
+    }
 
-        final boolean increase = EnumActivatorState.ENABLED.equals(PoolBlock.hasOnePoolActivatorAround(blockPosIn, serverWorldIn));
-
-        if(increase) {
-            final int level = blockStateIn.getValue(BlockStatePropertiesAA.LEVEL);
-
-            if(level < this.maxLevel) {
-                blockStateIn = blockStateIn.setValue(BlockStatePropertiesAA.LEVEL, level + 1);
-                serverWorldIn.setBlock(blockPosIn, blockStateIn, 10);
-
-                if(level + 1 < this.maxLevel) {
-                    serverWorldIn.scheduleTick(blockPosIn, this, 5);
-                }
+    @SuppressWarnings("deprecation")
+    @Override
+    public void onPlace(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState oldState, final boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(worldIn instanceof ServerLevel serverLevel) {
+            final PoolNetworkData network = PoolNetworkData.get(serverLevel);
+            network.onPoolChanged(worldIn, pos, state);
+            // A new pool connected to a basin with an activator starts the filling of the basin.
+            if(!(oldState.getBlock() instanceof PoolBlock) && network.hasActivatorAround(worldIn, pos)) {
+                network.scheduleStep(serverLevel, pos);
             }
-        } else {
-            int level = blockStateIn.getValue(BlockStatePropertiesAA.LEVEL);
-
-            if(level - 1 >= 0) {
-                level--;
-                blockStateIn = blockStateIn.setValue(BlockStatePropertiesAA.LEVEL, level);
-                serverWorldIn.setBlock(blockPosIn, blockStateIn, 10);
+        }
+    }
 
-                if(level - 1 >= 0) {
-                    serverWorldIn.scheduleTick(blockPosIn, this, 5);
-                }
-            }
+    @SuppressWarnings("deprecation")
+    @Override
+    public void onRemove(final BlockState state, final Level worldIn, final BlockPos pos, final BlockState newState, final boolean isMoving) {
+        if(worldIn instanceof ServerLevel serverLevel && !(newState.getBlock() instanceof PoolBlock)) {
+            PoolNetworkData.get(serverLevel).onPoolRemoved(worldIn, pos);
         }
+        super.onRemove(state, worldIn, pos, newState, isMoving);
     }
 
     @Override
@@ -250,6 +249,15 @@ public class PoolBlock extends BlockAA {
         int level = stateIn.getValue(BlockStatePropertiesAA.LEVEL);
 
         if(facingPosIn.getY() == currentPosIn.getY() + 1) {
+            // On server side, the level of the whole basin is changed by the PoolNetworkData steps.
+            if(worldIn instanceof ServerLevel serverLevel) {
+                final PoolNetworkData network = PoolNetworkData.get(serverLevel);
+                network.updateActivator(currentPosIn, PoolBlock.isPoolActivator(facingStateIn));
+                if(network.hasActivatorAround(worldIn, currentPosIn)) {
+                    network.scheduleStep(serverLevel, currentPosIn);
+                }
+                return stateIn;
+            }
             final int lastLevel = level;
             final EnumActivatorState state = PoolBlock.hasOnePoolActivatorAround(currentPosIn, worldIn);
 
@@ -298,182 +306,124 @@ public class PoolBlock extends BlockAA {
     }
 
     /**
-     * Method used to execute removeWaterAround(final Map<BlockPos, BlockState> testedPositionsIn, BlockState blockStateIn, final BlockPos blockPosIn, final World worldIn, final float prohibitedXIn, final float
-     * prohibitedZIn)
-     */
-    public static boolean removeWaterAround(final BlockState blockStateIn, final BlockPos blockPosIn, final Level worldIn) {
-        return PoolBlock.removeWaterAround(new LinkedHashMap<>(), blockStateIn, blockPosIn, worldIn, 0.0f, 0.0f);
-    }
-
-    /**
-     * Seynax : binary method to remove water on all associated pool
-     */
-    private static boolean removeWaterAround(final Map<BlockPos, BlockState> testedPositionsIn, BlockState blockStateIn, final BlockPos blockPosIn, final Level worldIn, final float prohibitedXIn, final float prohibitedZIn) {
-        boolean success = blockStateIn.getValue(BlockStatePropertiesAA.LEVEL) > 0;
-        blockStateIn = blockStateIn.setValue(BlockStatePropertiesAA.LEVEL, 0);
-        worldIn.setBlock(blockPosIn, blockStateIn, 10);
-        if(prohibitedXIn != 1 && PoolBlock.removeWaterAroundOffset(testedPositionsIn, blockPosIn, worldIn, 1, 0)) {
-            success = true;
-        }
-        if(prohibitedXIn != -1 && PoolBlock.removeWaterAroundOffset(testedPositionsIn, blockPosIn, worldIn, -1, 0)) {
-            success = true;
-        }
-        if(prohibitedZIn != 1 && PoolBlock.removeWaterAroundOffset(testedPositionsIn, blockPosIn, worldIn, 0, 1)) {
-            success = true;
-        }
-        if(prohibitedZIn != -1 && PoolBlock.removeWaterAroundOffset(testedPositionsIn, blockPosIn, worldIn, 0, -1)) {
-            success = true;
-        }
-        return success;
-    }
-
-    /**
-     * Used by removeWaterAround(final Map<BlockPos, BlockState> testedPositionsIn, BlockState blockStateIn, final BlockPos blockPosIn, final World worldIn, final float prohibitedXIn, final float prohibitedZIn)
+     * Removes the water of all the pools connected to this one, and deactivates the faucets connected to them.
      *
-     * @param testedPositionsIn
-     * @param blockPosIn
-     * @param worldIn
-     * @param x
-     * @param z
+     * @param blockStateIn BlockState of the pool.
+     * @param blockPosIn   BlockPos of the pool.
+     * @param worldIn      World where the pool is placed.
      *
-     * @return
+     * @return True if at least one pool contained water.
      */
-    private static boolean removeWaterAroundOffset(final Map<BlockPos, BlockState> testedPositionsIn, final BlockPos blockPosIn, final Level worldIn, final int x, final int z) {
-        final BlockPos pos = blockPosIn.offset(x, 0, z);
-        if(!testedPositionsIn.containsKey(pos)) {
-            BlockState state = worldIn.getBlockState(pos);
+    public static boolean removeWaterAround(final BlockState blockStateIn, final BlockPos blockPosIn, final Level worldIn) {
+        if(worldIn instanceof ServerLevel serverLevel) {
+            return PoolNetworkData.get(serverLevel).drain(serverLevel, blockPosIn);
+        }
+        // The pools are collected first, so that the world is not modified during the walk.
+        final LongArrayList pools = new LongArrayList();
+        PoolTraversal.walk(worldIn, blockPosIn, (packedPos, state) -> {
             if(state.getBlock() instanceof PoolBlock) {
-                testedPositionsIn.put(pos, state);
-                return PoolBlock.removeWaterAround(testedPositionsIn, state, pos, worldIn, x, z);
+                pools.add(packedPos);
             }
-            if(state.getBlock() instanceof FaucetBlock) {
-                state = state.setValue(BlockStatePropertiesAA.ACTIVATED, false);
-                worldIn.setBlock(pos, state, 10);
+            return true;
+        });
+        boolean success = blockStateIn.getValue(BlockStatePropertiesAA.LEVEL) > 0;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos adjacentPos = new BlockPos.MutableBlockPos();
+        for(int i = 0; i < pools.size(); i++) {
+            pos.set(pools.getLong(i));
+            final BlockState state = worldIn.getBlockState(pos);
+            if(state.getValue(BlockStatePropertiesAA.LEVEL) > 0) {
+                success = true;
+                worldIn.setBlock(pos, state.setValue(BlockStatePropertiesAA.LEVEL, 0), 10);
+            }
+            for(final Direction direction : Direction.Plane.HORIZONTAL) {
+                final BlockState adjacentState = worldIn.getBlockState(adjacentPos.setWithOffset(pos, direction));
+                if(adjacentState.getBlock() instanceof FaucetBlock) {
+                    worldIn.setBlock(adjacentPos, adjacentState.setValue(BlockStatePropertiesAA.ACTIVATED, false), 10);
+                }
             }
         }
-        return false;
+        return success;
     }
 
     /**
-     * Method used to execute hasOneActivatedFaucetOrJet(final Map<BlockPos, BlockState> testedPositionsIn, final BlockPos blockPosIn, final LevelAccessor worldIn, final float prohibitedXIn, final float prohibitedZIn)
+     * Checks if this pool, or one of the pools connected to it, has a water trickle or an activated faucet above it.
      *
-     * @param blockPosIn
-     * @param worldIn
+     * @param blockPosIn BlockPos of the pool (or of the future pool during a placement).
+     * @param worldIn    World where the pool is placed.
+     *
+     * @return ENABLED if an activator is found, NO otherwise.
      */
     public static EnumActivatorState hasOnePoolActivatorAround(final BlockPos blockPosIn, final LevelAccessor worldIn) {
-        return PoolBlock.hasOnePoolActivatorAround(new LinkedHashMap<>(), blockPosIn, worldIn, 0.0f, 0.0f);
-    }
-
-    /**
-     * You can use hasOnePoolActivatorAround(final BlockPos blockPosIn, final LevelAccessor worldIn) Seynax : binary method to remove water on all associated pool
-     */
-    private static EnumActivatorState hasOnePoolActivatorAround(final Map<BlockPos, BlockState> testedPositionsIn, final BlockPos blockPosIn, final LevelAccessor worldIn, final float prohibitedXIn, final float prohibitedZIn) {
-        if(testedPositionsIn.containsKey(blockPosIn)) {
-            return EnumActivatorState.NO;
+        // On server side, the basins are indexed in the PoolNetworkData, so we don't need to walk the whole basin.
+        if(worldIn instanceof ServerLevel serverLevel) {
+            return PoolNetworkData.get(serverLevel).hasActivatorAround(worldIn, blockPosIn) ? EnumActivatorState.ENABLED : EnumActivatorState.NO;
         }
-        final BlockState state = worldIn.getBlockState(blockPosIn.above());
-        testedPositionsIn.put(blockPosIn, state);
-
-        if(state.getBlock() instanceof WaterTrickleBlock || state.getBlock() instanceof FaucetBlock && state.getValue(BlockStatePropertiesAA.ACTIVATED)) {
-            return EnumActivatorState.ENABLED;
-        }
-
-        if(prohibitedXIn != 1 && EnumActivatorState.ENABLED.equals(PoolBlock.hasOnePoolActivatorAroundOffset(testedPositionsIn, worldIn, blockPosIn, 1, 0)) || prohibitedXIn != -1 && EnumActivatorState.ENABLED.equals(PoolBlock.hasOnePoolActivatorAroundOffset(testedPositionsIn, worldIn, blockPosIn, -1, 0)) || prohibitedZIn != 1 && EnumActivatorState.ENABLED.equals(PoolBlock.hasOnePoolActivatorAroundOffset(testedPositionsIn, worldIn, blockPosIn, 0, 1)) || prohibitedZIn != -1 && EnumActivatorState.ENABLED.equals(PoolBlock.hasOnePoolActivatorAroundOffset(testedPositionsIn, worldIn, blockPosIn, 0, -1))) {
-            return EnumActivatorState.ENABLED;
-        }
-
-        return EnumActivatorState.NO;
-    }
-
-    public static EnumActivatorState hasOnePoolActivatorAroundOffset(final Map<BlockPos, BlockState> testedPositionsIn, final LevelAccessor worldIn, final BlockPos baseBlockPosIn, final int xOffsetIn, final int zOffsetIn) {
-        final BlockPos offsetBlockPos = baseBlockPosIn.offset(xOffsetIn, 0, zOffsetIn);
-        final BlockState offsetState = worldIn.getBlockState(offsetBlockPos);
-
-        if(offsetState.getBlock() instanceof PoolBlock) {
-            return PoolBlock.hasOnePoolActivatorAround(testedPositionsIn, offsetBlockPos, worldIn, -xOffsetIn, -zOffsetIn);
-        }
-
-        return EnumActivatorState.NO;
+        final BlockPos.MutableBlockPos abovePos = new BlockPos.MutableBlockPos();
+        final EnumActivatorState[] activatorState = {EnumActivatorState.NO};
+        PoolTraversal.walk(worldIn, blockPosIn, (packedPos, state) -> {
+            if(PoolBlock.isPoolActivator(worldIn.getBlockState(abovePos.set(packedPos).move(Direction.UP)))) {
+                activatorState[0] = EnumActivatorState.ENABLED;
+                return false;
+            }
+            return true;
+        });
+        return activatorState[0];
     }
 
     private static PoolLevelAndSides levelOfPoolAround(final BlockPos blockPosIn, final LevelAccessor worldIn) {
-        return PoolBlock.levelOfPoolAround(new LinkedHashMap<>(), new PoolLevelAndSides(), blockPosIn, worldIn, 0.0f, 0.0f);
-    }
-
-    private static PoolLevelAndSides levelOfPoolAround(final Map<BlockPos, BlockState> testedPositionsIn, final PoolLevelAndSides poolLevelAndSidesIn, final BlockPos blockPosIn, final LevelAccessor worldIn, final float prohibitedXIn, final float prohibitedZIn) {
-        final boolean center = prohibitedXIn == 0 && prohibitedZIn == 0;
-
-        if(prohibitedXIn != 1) {
-            final int level = PoolBlock.poolLevelAroundOffset(testedPositionsIn, poolLevelAndSidesIn, blockPosIn, worldIn, 1, 0);
-            if(level > 0 && center) {
-                poolLevelAndSidesIn.right = true;
-            }
-            if(level > poolLevelAndSidesIn.level) {
-                poolLevelAndSidesIn.level = level;
-            }
+        final PoolLevelAndSides poolLevelAndSides = new PoolLevelAndSides();
+        if(worldIn instanceof ServerLevel serverLevel) {
+            final PoolNetworkData network = PoolNetworkData.get(serverLevel);
+            poolLevelAndSides.right = PoolBlock.indexedPoolLevel(network, worldIn, blockPosIn.east(), poolLevelAndSides) > 0;
+            poolLevelAndSides.left = PoolBlock.indexedPoolLevel(network, worldIn, blockPosIn.west(), poolLevelAndSides) > 0;
+            poolLevelAndSides.north = PoolBlock.indexedPoolLevel(network, worldIn, blockPosIn.south(), poolLevelAndSides) > 0;
+            poolLevelAndSides.south = PoolBlock.indexedPoolLevel(network, worldIn, blockPosIn.north(), poolLevelAndSides) > 0;
+            return poolLevelAndSides;
         }
-
-        if(prohibitedXIn != -1) {
-            final int level = PoolBlock.poolLevelAroundOffset(testedPositionsIn, poolLevelAndSidesIn, blockPosIn, worldIn, -1, 0);
-            if(level > 0 && center) {
-                poolLevelAndSidesIn.left = true;
-            }
-            if(level > poolLevelAndSidesIn.level) {
-                poolLevelAndSidesIn.level = level;
-            }
-        }
-
-        if(prohibitedZIn != 1) {
-            final int level = PoolBlock.poolLevelAroundOffset(testedPositionsIn, poolLevelAndSidesIn, blockPosIn, worldIn, 0, 1);
-            if(level > 0 && center) {
-                poolLevelAndSidesIn.north = true;
-            }
-            if(level > poolLevelAndSidesIn.level) {
-                poolLevelAndSidesIn.level = level;
-            }
-        }
-
-        if(prohibitedZIn != -1) {
-            final int level = PoolBlock.poolLevelAroundOffset(testedPositionsIn, poolLevelAndSidesIn, blockPosIn, worldIn, 0, -1);
-            if(level > 0 && center) {
-                poolLevelAndSidesIn.south = true;
-            }
-
-            if(level > poolLevelAndSidesIn.level) {
-                poolLevelAndSidesIn.level = level;
+        // The level is the highest level of the pools connected to this position, the position itself excluded.
+        final long startPos = blockPosIn.asLong();
+        PoolTraversal.walk(worldIn, blockPosIn, (packedPos, state) -> {
+            if(packedPos != startPos && state.getValue(BlockStatePropertiesAA.LEVEL) > poolLevelAndSides.level) {
+                poolLevelAndSides.level = state.getValue(BlockStatePropertiesAA.LEVEL);
             }
-        }
-
-        return poolLevelAndSidesIn;
+            return true;
+        });
+        final boolean hasWater = poolLevelAndSides.level > 0;
+        poolLevelAndSides.right = hasWater && worldIn.getBlockState(blockPosIn.east()).getBlock() instanceof PoolBlock;
+        poolLevelAndSides.left = hasWater && worldIn.getBlockState(blockPosIn.west()).getBlock() instanceof PoolBlock;
+        poolLevelAndSides.north = hasWater && worldIn.getBlockState(blockPosIn.south()).getBlock() instanceof PoolBlock;
+        poolLevelAndSides.south = hasWater && worldIn.getBlockState(blockPosIn.north()).getBlock() instanceof PoolBlock;
+        return poolLevelAndSides;
     }
 
     /**
-     * Used by hasOnePoolActivatorAround(final BlockPos blockPosIn, final LevelAccessor worldIn)
-     *
-     * @param testedPositionsIn
-     * @param baseBlockPosIn
-     * @param worldIn
-     * @param xOffsetIn
-     * @param zOffsetIn
+     * Used by levelOfPoolAround(final BlockPos blockPosIn, final LevelAccessor worldIn) on server side.
      *
-     * @return
+     * @return The level of the basin that contains the pool at this position, or -1 if there is no pool.
      */
-    private static int poolLevelAroundOffset(final Map<BlockPos, BlockState> testedPositionsIn, final PoolLevelAndSides poolLevelAndSidesIn, final BlockPos baseBlockPosIn, final LevelAccessor worldIn, final int xOffsetIn, final int zOffsetIn) {
-        final BlockPos pos = baseBlockPosIn.offset(xOffsetIn, 0, zOffsetIn);
-        if(testedPositionsIn.containsKey(pos)) {
+    private static int indexedPoolLevel(final PoolNetworkData network, final LevelAccessor worldIn, final BlockPos pos, final PoolLevelAndSides poolLevelAndSidesIn) {
+        final PoolNetworkData.PoolComponent component = network.getComponent(worldIn, pos);
+        if(component == null) {
             return -1;
         }
-        final BlockState state = worldIn.getBlockState(pos);
-        testedPositionsIn.put(pos, state);
-
-        if(state.getBlock() instanceof PoolBlock) {
-            PoolBlock.levelOfPoolAround(testedPositionsIn, poolLevelAndSidesIn, pos, worldIn, -xOffsetIn, -zOffsetIn);
-            final int currentLevel = state.getValue(BlockStatePropertiesAA.LEVEL);
-
-            return Math.max(currentLevel, poolLevelAndSidesIn.level);
+        final int level = component.getLevel();
+        if(level > poolLevelAndSidesIn.level) {
+            poolLevelAndSidesIn.level = level;
         }
+        return level;
+    }
 
-        return -1;
+    /**
+     * @param aboveState BlockState of the block above a pool.
+     *
+     * @return True if this block fills the pool under it : any water trickle, except the faucets that are not activated.
+     */
+    public static boolean isPoolActivator(final BlockState aboveState) {
+        if(aboveState.getBlock() instanceof FaucetBlock) {
+            return aboveState.getValue(BlockStatePropertiesAA.ACTIVATED);
+        }
+        return aboveState.getBlock() instanceof WaterTrickleBlock;
     }
 
     public static final class PoolLevelAndSides {
@@ -21,6 +21,7 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
 import org.dawnoftimebuilder.util.Utils;
+import org.dawnoftimebuilder.world.PortcullisGateRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -84,31 +85,32 @@ public class PortcullisBlock extends WaterloggedBlock {
             return false;
     }
 
+    @Override
+    public void onPlace(BlockState state, Level worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, worldIn, pos, oldState, isMoving);
+        if(!hasSameAxis(oldState, state.getValue(HORIZONTAL_AXIS)))
+            PortcullisGateRegistry.get(worldIn).invalidate(worldIn, pos);
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
+        if(!hasSameAxis(newState, state.getValue(HORIZONTAL_AXIS)))
+            PortcullisGateRegistry.get(worldIn).invalidate(worldIn, pos);
+        super.onRemove(state, worldIn, pos, newState, isMoving);
+    }
+
     @Override
     public void neighborChanged(BlockState state, Level worldIn, BlockPos pos, Block blockIn, BlockPos fromPos, boolean isMoving) {
         if(state.getValue(VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.UNDER) {
-            //update coming from top blocks : check the shape of whole portcullis to know if it can be or stay open
-            Direction.Axis axis = state.getValue(HORIZONTAL_AXIS);
+            //update coming from top blocks : the gate knows its shape and how many of its top blocks are powered
+            PortcullisGateRegistry.Gate gate = getGate(worldIn, pos, state.getValue(HORIZONTAL_AXIS));
             boolean isNowPowered = worldIn.hasNeighborSignal(pos);
-            if(state.getValue(OPEN)) {
-                if(isInSamePlane(pos, fromPos, axis) && isNowPowered)
-                    setOpenState(worldIn, pos, axis, true);
-            } else {
-                if(isNowPowered) {
-                    setOpenState(worldIn, pos, axis, true);
-                    state = state.setValue(OPEN, true);
-                }
-            }
-            if(!isNowPowered && state.getValue(POWERED)) {
-                state = state.setValue(POWERED, false);
-                worldIn.setBlock(pos, state, 2);
-                if(!hasAnotherPowerSource(worldIn, pos, axis))
-                    setOpenState(worldIn, pos, axis, false);
-            }
             if(isNowPowered != state.getValue(POWERED)) {
-                state = state.setValue(POWERED, isNowPowered);
-                worldIn.setBlock(pos, state, 2);
+                worldIn.setBlock(pos, state.setValue(POWERED, isNowPowered), 2);
+                gate.addPoweredCells(isNowPowered ? 1 : -1);
             }
+            if(gate.isOpen() == null || gate.isOpen() != gate.shouldBeOpen())
+                setOpenState(worldIn, gate, gate.shouldBeOpen());
         } else if(state.getValue(VERTICAL_CONNECTION) == BlockStatePropertiesAA.VerticalConnection.NONE) {
             if(state.getValue(OPEN))
                 worldIn.setBlock(pos, state.setValue(OPEN, false), 2);
@@ -142,91 +144,86 @@ public class PortcullisBlock extends WaterloggedBlock {
         return pos.below();
     }
 
-    private boolean hasAnotherPowerSource(Level worldIn, BlockPos pos, Direction.Axis axis) {
-        boolean isAxisX = axis == Direction.Axis.X;
-        Direction direction = (isAxisX) ? Direction.WEST : Direction.NORTH;
-        int widthLeft = getPortcullisWidth(worldIn, pos, axis, (isAxisX) ? Direction.EAST : Direction.SOUTH);
-        int widthRight = getPortcullisWidth(worldIn, pos, axis, (isAxisX) ? Direction.WEST : Direction.NORTH);
-        BlockState state;
-        pos = pos.relative(direction, -widthLeft);
-        for(int i = 0; i <= (widthLeft + widthRight); i++) {
-            state = worldIn.getBlockState(pos.relative(direction, i));
-            if(state.getValue(POWERED))
-                return true;
+    /**
+     * Returns the gate of this top block from the registry, or measures it in the world if it is not known yet.
+     */
+    private PortcullisGateRegistry.Gate getGate(Level worldIn, BlockPos pos, Direction.Axis axis) {
+        PortcullisGateRegistry registry = PortcullisGateRegistry.get(worldIn);
+        PortcullisGateRegistry.Gate gate = registry.getGate(pos);
+        if(gate == null || gate.getDirection().getAxis() != axis) {
+            gate = buildGate(worldIn, pos, axis);
+            registry.register(gate);
         }
-        return false;
+        return gate;
     }
 
-    private void setOpenState(Level worldIn, BlockPos pos, Direction.Axis axis, boolean openState) {
+    private PortcullisGateRegistry.Gate buildGate(Level worldIn, BlockPos pos, Direction.Axis axis) {
         boolean isAxisX = axis == Direction.Axis.X;
         Direction direction = (isAxisX) ? Direction.WEST : Direction.NORTH;
         int height = getPortcullisHeight(worldIn, pos, axis);
         int widthLeft = getPortcullisWidth(worldIn, pos, axis, (isAxisX) ? Direction.EAST : Direction.SOUTH);
-        int widthRight = getPortcullisWidth(worldIn, pos, axis, (isAxisX) ? Direction.WEST : Direction.NORTH);
+        int widthRight = getPortcullisWidth(worldIn, pos, axis, direction);
+        BlockPos start = pos.relative(direction, -widthLeft);
+        int width = widthLeft + widthRight + 1;
+        boolean complete = height <= 16 && width <= 16;
         BlockState state;
-        if(height > 16 || (widthLeft + widthRight + 1) > 16)
-            return;
-        if(openState) {
-            for(int horizontal = 1; horizontal <= widthLeft; horizontal++) {
-                for(int vertical = 0; vertical < height; vertical++) {
-                    state = worldIn.getBlockState(pos.relative((isAxisX) ? Direction.EAST : Direction.SOUTH, horizontal).below(vertical));
-                    if(state.getBlock() instanceof PortcullisBlock) {
-                        if(state.getValue(HORIZONTAL_AXIS) != axis) {
-                            openState = false;
-                            break;
-                        }
-                    } else {
-                        openState = false;
-                        break;
-                    }
-                }
-                if(!openState)
+        for(int horizontal = 0; complete && horizontal < width; horizontal++) {
+            for(int vertical = 0; vertical < height; vertical++) {
+                state = worldIn.getBlockState(start.relative(direction, horizontal).below(vertical));
+                if(!hasSameAxis(state, axis)) {
+                    complete = false;
                     break;
-            }
-            if(openState) {
-                for(int horizontal = 1; horizontal <= widthRight; horizontal++) {
-                    for(int vertical = 0; vertical < height; vertical++) {
-                        state = worldIn.getBlockState(pos.relative(direction, horizontal).below(vertical));
-                        if(state.getBlock() instanceof PortcullisBlock) {
-                            if(state.getValue(HORIZONTAL_AXIS) != axis) {
-                                openState = false;
-                                break;
-                            }
-                        } else {
-                            openState = false;
-                            break;
-                        }
-                    }
-                    if(!openState)
-                        break;
                 }
             }
-            if(openState) {
-                openState = isCorrectBorder(worldIn, pos.relative(direction, -widthLeft).above(), axis, (isAxisX) ? Direction.WEST : Direction.NORTH, widthLeft + widthRight);
-                openState = openState && isCorrectBorder(worldIn, pos.relative(direction, -widthLeft).below(height), axis, (isAxisX) ? Direction.WEST : Direction.NORTH, widthLeft + widthRight);
-                openState = openState && isCorrectBorder(worldIn, pos.relative(direction, -widthLeft - 1), axis, Direction.DOWN, height - 1);
-                openState = openState && isCorrectBorder(worldIn, pos.relative(direction, widthRight + 1), axis, Direction.DOWN, height - 1);
-            }
         }
-        pos = pos.relative(direction, -widthLeft);
+        if(complete) {
+            complete = isCorrectBorder(worldIn, start.above(), axis, direction, width - 1);
+            complete = complete && isCorrectBorder(worldIn, start.below(height), axis, direction, width - 1);
+            complete = complete && isCorrectBorder(worldIn, start.relative(direction, -1), axis, Direction.DOWN, height - 1);
+            complete = complete && isCorrectBorder(worldIn, start.relative(direction, width), axis, Direction.DOWN, height - 1);
+        }
+        int poweredCells = 0;
+        for(int horizontal = 0; horizontal < width; horizontal++) {
+            state = worldIn.getBlockState(start.relative(direction, horizontal));
+            if(state.getBlock() instanceof PortcullisBlock && state.getValue(POWERED))
+                poweredCells++;
+        }
+        return new PortcullisGateRegistry.Gate(start, direction, width, height, complete, poweredCells);
+    }
+
+    private void setOpenState(Level worldIn, PortcullisGateRegistry.Gate gate, boolean openState) {
+        //The gates too big are never changed
+        if(gate.getHeight() > 16 || gate.getWidth() > 16)
+            return;
+        PortcullisGateRegistry.get(worldIn).animate(worldIn, gate, openState);
+    }
+
+    /**
+     * Sets the OPEN state of a row of the gate. The neighbours are not updated, since they don't depend on the OPEN state.
+     * @param worldIn World of the gate.
+     * @param gate Gate containing the row.
+     * @param row Index of the row, from 0 for the top row.
+     * @param openState New OPEN state of the row.
+     * @param playSound True to play the sound of the gate if a cell changed.
+     * @return True if at least a cell changed.
+     */
+    public static boolean setRowOpenState(Level worldIn, PortcullisGateRegistry.Gate gate, int row, boolean openState, boolean playSound) {
+        Direction.Axis axis = gate.getDirection().getAxis();
+        BlockPos rowStart = gate.getStart().below(row);
         BlockPos newPos;
-        for(int horizontal = 0; horizontal < widthLeft + widthRight + 1; horizontal++) {
-            for(int vertical = 0; vertical < height; vertical++) {
-                newPos = pos.relative(direction, horizontal).below(vertical);
-                state = worldIn.getBlockState(newPos);
-                if(state.getBlock() instanceof PortcullisBlock) {
-                    if(state.getValue(HORIZONTAL_AXIS) == axis) {
-                        worldIn.setBlock(newPos, state.setValue(OPEN, openState), 10);
-                        if(horizontal == widthLeft) {
-                            if(vertical == 0 && openState)
-                                worldIn.levelEvent(null, this.getOpenSound(), newPos, 0);
-                            if(vertical == height - 1 && !openState)
-                                worldIn.levelEvent(null, this.getCloseSound(), newPos, 0);
-                        }
-                    }
-                }
+        BlockState state;
+        boolean changed = false;
+        for(int horizontal = 0; horizontal < gate.getWidth(); horizontal++) {
+            newPos = rowStart.relative(gate.getDirection(), horizontal);
+            state = worldIn.getBlockState(newPos);
+            if(state.getBlock() instanceof PortcullisBlock portcullis && portcullis.hasSameAxis(state, axis) && state.getValue(OPEN) != openState) {
+                worldIn.setBlock(newPos, state.setValue(OPEN, openState), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                if(playSound && !changed)
+                    worldIn.levelEvent(null, openState ? portcullis.getOpenSound() : portcullis.getCloseSound(), rowStart.relative(gate.getDirection(), gate.getWidth() / 2), 0);
+                changed = true;
             }
         }
+        return changed;
     }
 
     private int getPortcullisHeight(Level worldIn, BlockPos pos, Direction.Axis axis) {
@@ -11,7 +11,6 @@ import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DirectionProperty;
 
 import javax.annotation.Nullable;
-import java.util.Random;
 
 public class SidedFlowerPotBlock extends FlowerPotBlockAA {
     public static final DirectionProperty FACING = BlockStateProperties.HORIZONTAL_FACING;
@@ -32,8 +31,8 @@ public class SidedFlowerPotBlock extends FlowerPotBlockAA {
     }
 
     @Override
-    public BlockState getRandomState() {
-        return this.defaultBlockState().setValue(FACING, Direction.Plane.HORIZONTAL.getRandomDirection((RandomSource) new Random()));
+    public BlockState getRandomState(RandomSource random) {
+        return this.defaultBlockState().setValue(FACING, Direction.Plane.HORIZONTAL.getRandomDirection(random));
     }
 
     @Override
@@ -31,7 +31,6 @@ import org.dawnoftimebuilder.util.Utils;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
-import java.util.Random;
 
 import static org.dawnoftimebuilder.util.Utils.TOOLTIP_CROP;
 
@@ -152,7 +151,7 @@ public class SoilCropsBlock extends CropBlock implements IBlockGeneration {
             }
         } else {
             if(Utils.useLighter(worldIn, pos, player, handIn)) {
-                Random rand = new Random();
+                RandomSource rand = worldIn.getRandom();
                 for(int i = 0; i < 5; i++) {
                     worldIn.addAlwaysVisibleParticle(ParticleTypes.SMOKE, (double) pos.getX() + rand.nextDouble(), (double) pos.getY() + 0.5D + rand.nextDouble() / 2, (double) pos.getZ() + rand.nextDouble(), 0.0D, 0.07D, 0.0D);
                 }
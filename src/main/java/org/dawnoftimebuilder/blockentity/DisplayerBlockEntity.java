@@ -8,36 +8,66 @@ import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
+import org.dawnoftimebuilder.block.IBlockSpecialDisplay;
 import org.dawnoftimebuilder.container.DisplayerMenu;
+import org.dawnoftimebuilder.network.SlotSync;
 import org.dawnoftimebuilder.registry.DoTBBlockEntitiesRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-public class DisplayerBlockEntity extends BlockEntity implements MenuProvider {
+import static org.dawnoftimebuilder.block.templates.DisplayerBlock.LIT;
+
+public class DisplayerBlockEntity extends BlockEntity implements MenuProvider, SlotSync.SyncedSlotsBlockEntity {
 	private final ItemStackHandler itemHandler = createHandler();
+	private LazyOptional<IItemHandler> handler = LazyOptional.of(() -> itemHandler);
+	// Slots holding an item that lights the displayer, and their count.
+	private final boolean[] lightSlots = new boolean[9];
+	private int lightItemCount;
+	// Incremented on each change of the items, so that the renderer knows when its cached layout is outdated.
+	private int contentVersion;
+	// The displayed items may stand above the top of the block.
+	private final AABB renderBoundingBox;
 
 
 	public DisplayerBlockEntity(BlockPos pPos, BlockState pBlockState) {
 		super(DoTBBlockEntitiesRegistry.DISPLAYER.get(), pPos, pBlockState);
+		renderBoundingBox = new AABB(pPos).expandTowards(0.0D, 0.5D, 0.0D);
 	}
 
     @Nonnull
     @Override
     public <T> LazyOptional<T> getCapability(@Nonnull final Capability<T> cap, @Nullable final Direction side) {
 		if (cap == ForgeCapabilities.ITEM_HANDLER) {
-			return LazyOptional.of(() -> itemHandler).cast();
+			return handler.cast();
 		}
 		return super.getCapability(cap, side);
 	}
 
+	@Override
+	public void invalidateCaps() {
+		super.invalidateCaps();
+		handler.invalidate();
+	}
+
+	@Override
+	public void reviveCaps() {
+		super.reviveCaps();
+		handler = LazyOptional.of(() -> itemHandler);
+	}
+
 	@Override
 	public CompoundTag getUpdateTag() {
 		CompoundTag tag = super.getUpdateTag();
@@ -48,6 +78,8 @@ public class DisplayerBlockEntity extends BlockEntity implements MenuProvider {
 	@Override
 	public void handleUpdateTag(CompoundTag tag) {
 		itemHandler.deserializeNBT(tag.getCompound("inv"));
+		contentVersion++;
+		countLightItems();
 		super.handleUpdateTag(tag);
 	}
 
@@ -60,6 +92,8 @@ public class DisplayerBlockEntity extends BlockEntity implements MenuProvider {
 	@Override
 	public void load(CompoundTag tag) {
 		itemHandler.deserializeNBT(tag.getCompound("inv"));
+		contentVersion++;
+		countLightItems();
 		super.load(tag);
 	}
 
@@ -69,9 +103,75 @@ public class DisplayerBlockEntity extends BlockEntity implements MenuProvider {
 			public int getSlotLimit(int slot) {
 				return 1;
 			}
+
+			@Override
+			protected void onContentsChanged(int slot) {
+				contentVersion++;
+				updateLightSlot(slot);
+				DisplayerBlockEntity.this.setChanged();
+				SlotSync.markDirty(DisplayerBlockEntity.this, slot);
+			}
 		};
 	}
 
+	private void countLightItems() {
+		lightItemCount = 0;
+		for(int slot = 0; slot < lightSlots.length; slot++) {
+			lightSlots[slot] = emitsLight(itemHandler.getStackInSlot(slot));
+			if(lightSlots[slot])
+				lightItemCount++;
+		}
+	}
+
+	private void updateLightSlot(int slot) {
+		boolean lit = emitsLight(itemHandler.getStackInSlot(slot));
+		if(lightSlots[slot] == lit)
+			return;
+		lightSlots[slot] = lit;
+		lightItemCount += lit ? 1 : -1;
+		//The BlockState is only updated when the first light item is added or the last one is removed
+		if(level != null && !level.isClientSide()) {
+			BlockState state = getBlockState();
+			boolean displayerLit = lightItemCount > 0;
+			if(state.hasProperty(LIT) && state.getValue(LIT) != displayerLit) {
+				level.setBlock(worldPosition, state.setValue(LIT, displayerLit), 10);
+			}
+		}
+	}
+
+	private boolean emitsLight(ItemStack itemStack) {
+		if(!itemStack.isEmpty() && itemStack.getItem() instanceof BlockItem blockItem) {
+			Block block = blockItem.getBlock();
+			if(block instanceof IBlockSpecialDisplay specialDisplay) {
+				return specialDisplay.emitsLight();
+			}
+			if(level == null) {
+				return block.defaultBlockState().getLightEmission() > 0;
+			}
+			return block.getLightEmission(block.defaultBlockState(), level, worldPosition) > 0;
+		}
+		return false;
+	}
+
+	@Override
+	public AABB getRenderBoundingBox() {
+		return renderBoundingBox;
+	}
+
+	public int getContentVersion() {
+		return contentVersion;
+	}
+
+	@Override
+	public ItemStack getSyncedSlot(int slot) {
+		return itemHandler.getStackInSlot(slot);
+	}
+
+	@Override
+	public void setSyncedSlot(int slot, ItemStack stack) {
+		itemHandler.setStackInSlot(slot, stack);
+	}
+
 	@NotNull
 	@Override
 	public Component getDisplayName() {
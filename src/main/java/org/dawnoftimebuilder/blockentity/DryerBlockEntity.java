@@ -3,68 +3,148 @@ package org.dawnoftimebuilder.blockentity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.Connection;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionResult;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
+import org.dawnoftimebuilder.block.templates.DryerBlock;
 import org.dawnoftimebuilder.DoTBConfig;
+import org.dawnoftimebuilder.network.SlotSync;
 import org.dawnoftimebuilder.recipe.DryerRecipe;
+import org.dawnoftimebuilder.recipe.DryerRecipeIndex;
 import org.dawnoftimebuilder.registry.DoTBBlockEntitiesRegistry;
-import org.dawnoftimebuilder.registry.DoTBRecipeTypesRegistry;
+import org.dawnoftimebuilder.util.PositionalRandom;
+import org.dawnoftimebuilder.world.BlockEntityTimerWheel;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Random;
 
-public class DryerBlockEntity extends BlockEntity {
-    private final ItemStackHandler itemHandler = new ItemStackHandler(2);
-    private final int[] remainingTicks = new int[2];
-    private boolean isInOperation;
+public class DryerBlockEntity extends BlockEntity implements BlockEntityTimerWheel.TimedBlockEntity, SlotSync.SyncedSlotsBlockEntity {
+    private final ItemStackHandler itemHandler = new ItemStackHandler(2) {
+        @Override
+        protected void onContentsChanged(final int slot) {
+            DryerBlockEntity.this.setChanged();
+            SlotSync.markDirty(DryerBlockEntity.this, slot);
+        }
+    };
+    private final AutomationItemHandler automationHandler = new AutomationItemHandler();
+    // Handler given to the hoppers and pipes, kept as long as the block entity is valid. It gives access to the whole rack.
+    private LazyOptional<IItemHandler> rackHandler = LazyOptional.of(RackItemHandler::new);
+    @Nullable
+    private DryerRack rack;
+    // Game time at which the item of each slot is dried, or 0 if this item is not drying.
+    private final long[] completionTimes = new long[2];
+    // Game time of the timer waiting in the BlockEntityTimerWheel, or 0 if there is none. Only the earliest completion is scheduled.
+    private long scheduledTime;
+    // Remaining drying times saved by the older versions, converted into completion times once the level is known.
+    @Nullable
+    private int[] legacyRemainingTicks;
+    // The items hang inside the block, whatever the collision shape of the dryer is.
+    private final AABB renderBoundingBox;
 
     public DryerBlockEntity(BlockPos pPos, BlockState pBlockState) {
         super(DoTBBlockEntitiesRegistry.DRYER.get(), pPos, pBlockState);
+        this.renderBoundingBox = new AABB(pPos);
     }
 
-    public void tick() {
-        if (this.getLevel() != null && this.isInOperation) {
-            int finish = 0;
-            boolean success = false;
-            for (int i = 0; i < this.remainingTicks.length; i++) {
-                this.remainingTicks[i]--;
-
-                if (this.remainingTicks[i] <= 0) {
-                    this.remainingTicks[i] = 0;
-                    //Item dried, we replace it with the recipe result, and clear the recipe cached.
-                    final DryerRecipe recipe = this.getDryerRecipe(new SimpleContainer(this.itemHandler.getStackInSlot(i)));
-
-                    if (recipe != null) {
-                        this.itemHandler.setStackInSlot(i, recipe.getResultItem(this.getLevel().registryAccess()).copy());
-                        success = true;
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (this.getLevel() instanceof ServerLevel serverLevel) {
+            final long gameTime = serverLevel.getGameTime();
+            if (this.legacyRemainingTicks != null) {
+                for (int i = 0; i < this.completionTimes.length; i++) {
+                    if (this.legacyRemainingTicks[i] > 0) {
+                        this.completionTimes[i] = gameTime + this.legacyRemainingTicks[i];
                     }
-                    finish++;
                 }
+                this.legacyRemainingTicks = null;
             }
+            // The items that dried while the chunk was unloaded are completed on the next tick.
+            this.scheduledTime = 0;
+            this.scheduleNextCompletion(serverLevel);
+        }
+    }
 
-            if (success) {
-                this.getLevel().sendBlockUpdated(this.worldPosition, this.getBlockState(), this.getBlockState(), Block.UPDATE_ALL);
+    private long getNextCompletionTime() {
+        long nextTime = 0;
+        for (final long completionTime : this.completionTimes) {
+            if (completionTime != 0 && (nextTime == 0 || completionTime < nextTime)) {
+                nextTime = completionTime;
             }
+        }
+        return nextTime;
+    }
 
-            if (finish >= 2) {
-                this.isInOperation = false;
+    private void scheduleNextCompletion(final ServerLevel level) {
+        final long nextTime = this.getNextCompletionTime();
+        if (nextTime == 0) {
+            return;
+        }
+        // The dryers of a valid rack share the timer of the rack.
+        if (this.rack != null && this.rack.isValid()) {
+            this.rack.scheduleCompletion(level, nextTime);
+            return;
+        }
+        // A timer due later than the next completion will wake the block entity for nothing, and then be ignored.
+        if (this.scheduledTime == 0 || nextTime < this.scheduledTime) {
+            this.scheduledTime = nextTime;
+            BlockEntityTimerWheel.get(level).schedule(this.worldPosition, nextTime);
+        }
+    }
+
+    /**
+     * Schedules the own timer of this dryer again, when the rack that was following its drying is dropped.
+     */
+    void rescheduleAlone() {
+        if (this.getLevel() instanceof ServerLevel serverLevel) {
+            this.scheduledTime = 0;
+            this.scheduleNextCompletion(serverLevel);
+        }
+    }
+
+    @Override
+    public void onTimer(final ServerLevel level, final long gameTime) {
+        if (this.scheduledTime != 0 && this.scheduledTime <= gameTime) {
+            this.scheduledTime = 0;
+        }
+        if (this.rack != null && this.rack.isValid() && this.rack.isTimerOwner(this)) {
+            this.rack.onTimer(level, gameTime);
+            return;
+        }
+        this.completeDriedItems(level, gameTime);
+        this.scheduleNextCompletion(level);
+    }
+
+    /**
+     * Replaces the items that are dried with the result of their recipe.
+     *
+     * @return The game time of the next completion of this dryer, or 0 if nothing is drying anymore.
+     */
+    long completeDriedItems(final ServerLevel level, final long gameTime) {
+        for (int i = 0; i < this.completionTimes.length; i++) {
+            if (this.completionTimes[i] != 0 && this.completionTimes[i] <= gameTime) {
+                this.completionTimes[i] = 0;
+                //Item dried, we replace it with the recipe result.
+                final DryerRecipe recipe = this.getDryerRecipe(this.itemHandler.getStackInSlot(i));
+
+                if (recipe != null) {
+                    this.itemHandler.setStackInSlot(i, recipe.getResultItem(level.registryAccess()).copy());
+                }
+                this.setChanged();
             }
         }
+        return this.getNextCompletionTime();
     }
 
     public InteractionResult tryInsertItemStack(final ItemStack itemStack, final boolean simple, final Level worldIn, final BlockPos pos, final Player player) {
@@ -121,26 +201,21 @@ public class DryerBlockEntity extends BlockEntity {
         if (this.itemHandler.getStackInSlot(index).isEmpty()) {
             return false;
         }
-        return this.remainingTicks[index] <= 0;
+        return this.completionTimes[index] == 0;
     }
 
     private boolean putItemStackInFreeSpace(final ItemStack itemStack, final boolean simple, final Player player) {
 
         if (this.itemHandler.getStackInSlot(0).isEmpty() && this.putItemStackInIndex(0, itemStack, player)) {
-            this.isInOperation = true;
             return true;
         }
-        if (!simple && this.itemHandler.getStackInSlot(1).isEmpty() && this.putItemStackInIndex(1, itemStack, player)) {
-            this.isInOperation = true;
-            return true;
-        }
-        return false;
+        return !simple && this.itemHandler.getStackInSlot(1).isEmpty() && this.putItemStackInIndex(1, itemStack, player);
     }
 
     @Nullable
-    private DryerRecipe getDryerRecipe(final SimpleContainer ingredientInventory) {
+    private DryerRecipe getDryerRecipe(final ItemStack ingredient) {
         if (this.getLevel() != null && !this.getLevel().isClientSide) {
-            return this.getLevel().getRecipeManager().getRecipeFor(DoTBRecipeTypesRegistry.DRYING.get(), ingredientInventory, this.getLevel()).orElse(null);
+            return DryerRecipeIndex.getRecipe(this.getLevel().getRecipeManager(), ingredient);
         }
         return null;
     }
@@ -148,57 +223,121 @@ public class DryerBlockEntity extends BlockEntity {
     private boolean putItemStackInIndex(final int index, final ItemStack itemStack, final Player player) {
         //Tries to put the itemStack in a dryer : first we check if there is a corresponding recipe, then we set the variables.
         if (this.getLevel() != null) {
-            final SimpleContainer invInHand = new SimpleContainer(itemStack);
-            final DryerRecipe recipe = this.getDryerRecipe(invInHand);
-            if (recipe != null && recipe.matches(invInHand, this.getLevel())) {
-                this.itemHandler.setStackInSlot(index, recipe.getIngredients().get(0).getItems()[0].copy());
+            final DryerRecipe recipe = this.getDryerRecipe(itemStack);
+            if (recipe != null) {
+                this.startDrying(index, recipe);
                 if (!player.isCreative()) {
                     itemStack.shrink(recipe.getIngredients().get(0).getItems()[0].getCount());
                 }
-                final float timeVariation = new Random().nextFloat() * 2.0F - 1.0F;
-                final int range = timeVariation >= 0 ? DoTBConfig.DRYING_TIME_VARIATION.get() : 10000 / (100 + DoTBConfig.DRYING_TIME_VARIATION.get());
-                this.remainingTicks[index] = (int) (recipe.getDryingTime() * (100 + timeVariation * range) / 100);
-                this.getLevel().sendBlockUpdated(this.worldPosition, this.getBlockState(), this.getBlockState(), Block.UPDATE_ALL);
-
                 return true;
             }
         }
         return false;
     }
 
+    private void startDrying(final int index, final DryerRecipe recipe) {
+        this.itemHandler.setStackInSlot(index, recipe.getIngredients().get(0).getItems()[0].copy());
+        final long gameTime = this.getLevel().getGameTime();
+        // The variation only depends on the position, the slot and the game time, so the same insertion always gives the same drying time.
+        final float timeVariation = PositionalRandom.nextFloat(this.worldPosition, gameTime * 2 + index) * 2.0F - 1.0F;
+        final int range = timeVariation >= 0 ? DoTBConfig.DRYING_TIME_VARIATION.get() : 10000 / (100 + DoTBConfig.DRYING_TIME_VARIATION.get());
+        final int dryingTime = Math.max(1, (int) (recipe.getDryingTime() * (100 + timeVariation * range) / 100));
+        this.completionTimes[index] = gameTime + dryingTime;
+        if (this.getLevel() instanceof ServerLevel serverLevel) {
+            this.scheduleNextCompletion(serverLevel);
+        }
+        this.setChanged();
+    }
+
     private void dropItemIndex(final int index, final Level worldIn, final BlockPos pos) {
         Block.popResource(worldIn, pos, this.itemHandler.extractItem(index, 64, false));
-        this.remainingTicks[index] = 0;
-        if (this.getLevel() != null) {
-            final BlockState state = this.getLevel().getBlockState(pos);
-            this.getLevel().sendBlockUpdated(this.worldPosition, state, state, Block.UPDATE_CLIENTS);
-        }
+        this.completionTimes[index] = 0;
+        this.setChanged();
     }
 
     @Nonnull
     @Override
     public <T> LazyOptional<T> getCapability(@Nonnull final Capability<T> cap, @Nullable final Direction side) {
         if (cap == ForgeCapabilities.ITEM_HANDLER) {
-            return LazyOptional.of(() -> this.itemHandler).cast();
+            return this.rackHandler.cast();
         }
         return super.getCapability(cap, side);
     }
 
-    @Nullable
     @Override
-    public Packet<ClientGamePacketListener> getUpdatePacket() {
-        return ClientboundBlockEntityDataPacket.create(this);
+    public void setRemoved() {
+        super.setRemoved();
+        this.invalidateRack();
     }
-    
+
     @Override
-    public void onDataPacket(final Connection net, final ClientboundBlockEntityDataPacket pkt) {
-        final CompoundTag tag = pkt.getTag();
-        if (tag.contains("inv") && this.getLevel() != null) {
-            this.itemHandler.deserializeNBT(tag.getCompound("inv"));
-            this.getLevel().sendBlockUpdated(this.worldPosition, this.getBlockState(), this.getBlockState(), Block.UPDATE_ALL);
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        this.invalidateRack();
+    }
+
+    @Override
+    public void invalidateCaps() {
+        super.invalidateCaps();
+        this.rackHandler.invalidate();
+    }
+
+    @Override
+    public void reviveCaps() {
+        super.reviveCaps();
+        this.rackHandler = LazyOptional.of(RackItemHandler::new);
+    }
+
+    /**
+     * @return The 2 slots of this dryer only, unlike the capability that gives access to the whole rack.
+     */
+    public IItemHandler getItemHandler() {
+        return this.itemHandler;
+    }
+
+    IItemHandler getAutomationHandler() {
+        return this.automationHandler;
+    }
+
+    void setRack(final DryerRack rack) {
+        this.rack = rack;
+    }
+
+    boolean hasValidRack() {
+        return this.rack != null && this.rack.isValid();
+    }
+
+    private DryerRack getRack() {
+        if (!this.hasValidRack()) {
+            return DryerRack.build(this);
+        }
+        return this.rack;
+    }
+
+    /**
+     * Forgets the rack of this dryer, so that it is built again with the dryers placed or removed around it.
+     */
+    public void invalidateRack() {
+        if (this.rack != null) {
+            this.rack.invalidate();
         }
     }
 
+    @Override
+    public AABB getRenderBoundingBox() {
+        return this.renderBoundingBox;
+    }
+
+    @Override
+    public ItemStack getSyncedSlot(final int slot) {
+        return this.itemHandler.getStackInSlot(slot);
+    }
+
+    @Override
+    public void setSyncedSlot(final int slot, final ItemStack stack) {
+        this.itemHandler.setStackInSlot(slot, stack);
+    }
+
     @Override
     public void handleUpdateTag(final CompoundTag tag) {
         this.itemHandler.deserializeNBT(tag.getCompound("inv"));
@@ -216,9 +355,8 @@ public class DryerBlockEntity extends BlockEntity {
     public void saveAdditional(final CompoundTag tag) {
         tag.put("inv", this.itemHandler.serializeNBT());
         for (int index = 0; index < 2; index++) {
-            tag.putInt("remainingTime" + index, this.remainingTicks[index]);
+            tag.putLong("completionTime" + index, this.completionTimes[index]);
         }
-        tag.putBoolean("isInOperation", this.isInOperation);
 
         super.saveAdditional(tag);
     }
@@ -226,11 +364,116 @@ public class DryerBlockEntity extends BlockEntity {
     @Override
     public void load(final CompoundTag tag) {
         this.itemHandler.deserializeNBT(tag.getCompound("inv"));
-        for (int index = 0; index < 2; index++) {
-            this.remainingTicks[index] = tag.getInt("remainingTime" + index);
+        if (tag.contains("completionTime0")) {
+            for (int index = 0; index < 2; index++) {
+                this.completionTimes[index] = tag.getLong("completionTime" + index);
+            }
+        } else if (tag.getBoolean("isInOperation")) {
+            this.legacyRemainingTicks = new int[2];
+            for (int index = 0; index < 2; index++) {
+                this.legacyRemainingTicks[index] = tag.getInt("remainingTime" + index);
+            }
         }
-        this.isInOperation = tag.getBoolean("isInOperation");
 
         super.load(tag);
     }
-}
\ No newline at end of file
+
+    /**
+     * Item handler used by the automation : only the items with a dryer recipe can be inserted in an empty slot, and they
+     * start drying at once. Only the dried items can be extracted.
+     */
+    private class AutomationItemHandler implements IItemHandler {
+        @Override
+        public int getSlots() {
+            return DryerBlockEntity.this.itemHandler.getSlots();
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack getStackInSlot(final int slot) {
+            return DryerBlockEntity.this.itemHandler.getStackInSlot(slot);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack insertItem(final int slot, @Nonnull final ItemStack stack, final boolean simulate) {
+            if (stack.isEmpty() || !this.isSlotUsable(slot) || !DryerBlockEntity.this.itemHandler.getStackInSlot(slot).isEmpty()) {
+                return stack;
+            }
+            final DryerRecipe recipe = DryerBlockEntity.this.getDryerRecipe(stack);
+            if (recipe == null) {
+                return stack;
+            }
+            final int count = recipe.getIngredients().get(0).getItems()[0].getCount();
+            if (stack.getCount() < count) {
+                return stack;
+            }
+            if (!simulate) {
+                DryerBlockEntity.this.startDrying(slot, recipe);
+            }
+            return stack.copyWithCount(stack.getCount() - count);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack extractItem(final int slot, final int amount, final boolean simulate) {
+            if (!DryerBlockEntity.this.itemIsDried(slot)) {
+                return ItemStack.EMPTY;
+            }
+            return DryerBlockEntity.this.itemHandler.extractItem(slot, amount, simulate);
+        }
+
+        @Override
+        public int getSlotLimit(final int slot) {
+            return DryerBlockEntity.this.itemHandler.getSlotLimit(slot);
+        }
+
+        @Override
+        public boolean isItemValid(final int slot, @Nonnull final ItemStack stack) {
+            return this.isSlotUsable(slot) && DryerBlockEntity.this.getDryerRecipe(stack) != null;
+        }
+
+        private boolean isSlotUsable(final int slot) {
+            // The small dryer only uses its first slot.
+            return slot == 0 || DryerBlockEntity.this.getBlockState().getValue(DryerBlock.SIZE) != 0;
+        }
+    }
+
+    /**
+     * Item handler of the capability, that forwards to the current rack of the dryer.
+     */
+    private class RackItemHandler implements IItemHandler {
+        @Override
+        public int getSlots() {
+            return DryerBlockEntity.this.getRack().getSlots();
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack getStackInSlot(final int slot) {
+            return DryerBlockEntity.this.getRack().getStackInSlot(slot);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack insertItem(final int slot, @Nonnull final ItemStack stack, final boolean simulate) {
+            return DryerBlockEntity.this.getRack().insertItem(slot, stack, simulate);
+        }
+
+        @Nonnull
+        @Override
+        public ItemStack extractItem(final int slot, final int amount, final boolean simulate) {
+            return DryerBlockEntity.this.getRack().extractItem(slot, amount, simulate);
+        }
+
+        @Override
+        public int getSlotLimit(final int slot) {
+            return DryerBlockEntity.this.getRack().getSlotLimit(slot);
+        }
+
+        @Override
+        public boolean isItemValid(final int slot, @Nonnull final ItemStack stack) {
+            return DryerBlockEntity.this.getRack().isItemValid(slot, stack);
+        }
+    }
+}
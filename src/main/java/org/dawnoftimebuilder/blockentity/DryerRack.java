@@ -0,0 +1,181 @@
+package org.dawnoftimebuilder.blockentity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.items.IItemHandler;
+import org.dawnoftimebuilder.world.BlockEntityTimerWheel;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Group of adjacent dryers that the automation sees as a single inventory : a hopper or a pipe connected to any dryer of
+ * the rack can feed or empty all of them. Each dryer gives its 2 slots, with the dryers sorted by position, so that a slot
+ * leads to the same dryer whichever dryer built the rack.<p/>
+ * The rack is built lazily and shared by all its dryers. It is dropped as soon as a dryer is placed next to it or one of
+ * its dryers is removed or unloaded. A dryer belongs to a single valid rack : the fields bigger than {@link #MAX_DRYERS}
+ * are split in several racks that don't overlap.<p/>
+ * While the rack is valid, the drying of all its dryers is followed by a single timer in the {@link BlockEntityTimerWheel},
+ * at the position of its first dryer and at the earliest completion of the rack. When the rack is dropped, its remaining
+ * dryers schedule their own timer again.
+ */
+public class DryerRack implements IItemHandler {
+    // Limits the search, so that a huge field of dryers doesn't freeze the server.
+    private static final int MAX_DRYERS = 64;
+    private static final int SLOTS_PER_DRYER = 2;
+
+    private final List<DryerBlockEntity> dryers;
+    private boolean invalidated;
+    // Game time of the timer of the rack waiting in the BlockEntityTimerWheel, or 0 if there is none.
+    private long scheduledTime;
+
+    private DryerRack(final List<DryerBlockEntity> dryers) {
+        this.dryers = dryers;
+    }
+
+    /**
+     * Finds the loaded dryers connected to this one that are not in another valid rack yet, and makes them share the new
+     * rack.
+     *
+     * @param origin Dryer from which the search starts.
+     * @return The rack containing the origin dryer.
+     */
+    static DryerRack build(final DryerBlockEntity origin) {
+        final Level level = origin.getLevel();
+        final List<DryerBlockEntity> dryers = new ArrayList<>();
+        dryers.add(origin);
+        if (level != null) {
+            final Set<BlockPos> visited = new HashSet<>();
+            final ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+            visited.add(origin.getBlockPos());
+            queue.add(origin.getBlockPos());
+            while (!queue.isEmpty() && dryers.size() < MAX_DRYERS) {
+                final BlockPos pos = queue.poll();
+                for (final Direction direction : Direction.values()) {
+                    final BlockPos adjacentPos = pos.relative(direction);
+                    if (visited.add(adjacentPos) && level.isLoaded(adjacentPos) && level.getBlockEntity(adjacentPos) instanceof DryerBlockEntity dryer && !dryer.isRemoved() && !dryer.hasValidRack()) {
+                        dryers.add(dryer);
+                        queue.add(adjacentPos);
+                        if (dryers.size() >= MAX_DRYERS) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        dryers.sort(Comparator.comparing(DryerBlockEntity::getBlockPos));
+        final DryerRack rack = new DryerRack(dryers);
+        for (final DryerBlockEntity dryer : dryers) {
+            dryer.setRack(rack);
+        }
+        return rack;
+    }
+
+    /**
+     * @return False if the rack must be built again.
+     */
+    boolean isValid() {
+        return !this.invalidated;
+    }
+
+    /**
+     * Drops the rack. Called when one of its dryers is removed or unloaded, or when a dryer is placed next to it.
+     */
+    void invalidate() {
+        if (this.invalidated) {
+            return;
+        }
+        this.invalidated = true;
+        if (this.scheduledTime != 0) {
+            this.scheduledTime = 0;
+            // The dryers that remain are woken by their own timer, until they share a new rack.
+            for (final DryerBlockEntity dryer : this.dryers) {
+                if (!dryer.isRemoved()) {
+                    dryer.rescheduleAlone();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return True if the timer of the rack wakes this dryer.
+     */
+    boolean isTimerOwner(final DryerBlockEntity dryer) {
+        return this.dryers.get(0) == dryer;
+    }
+
+    /**
+     * Makes sure the timer of the rack wakes it at the given completion time.
+     */
+    void scheduleCompletion(final ServerLevel level, final long completionTime) {
+        // A timer due later than the next completion will wake the rack for nothing, and then be ignored.
+        if (this.scheduledTime == 0 || completionTime < this.scheduledTime) {
+            this.scheduledTime = completionTime;
+            BlockEntityTimerWheel.get(level).schedule(this.dryers.get(0).getBlockPos(), completionTime);
+        }
+    }
+
+    /**
+     * Completes the dried items of all the dryers of the rack, and schedules the next completion of the rack.
+     */
+    void onTimer(final ServerLevel level, final long gameTime) {
+        if (this.scheduledTime != 0 && this.scheduledTime <= gameTime) {
+            this.scheduledTime = 0;
+        }
+        long nextTime = 0;
+        for (final DryerBlockEntity dryer : this.dryers) {
+            final long completionTime = dryer.completeDriedItems(level, gameTime);
+            if (completionTime != 0 && (nextTime == 0 || completionTime < nextTime)) {
+                nextTime = completionTime;
+            }
+        }
+        if (nextTime != 0) {
+            this.scheduleCompletion(level, nextTime);
+        }
+    }
+
+    private IItemHandler getDryerHandler(final int slot) {
+        return this.dryers.get(slot / SLOTS_PER_DRYER).getAutomationHandler();
+    }
+
+    @Override
+    public int getSlots() {
+        return this.dryers.size() * SLOTS_PER_DRYER;
+    }
+
+    @Nonnull
+    @Override
+    public ItemStack getStackInSlot(final int slot) {
+        return this.getDryerHandler(slot).getStackInSlot(slot % SLOTS_PER_DRYER);
+    }
+
+    @Nonnull
+    @Override
+    public ItemStack insertItem(final int slot, @Nonnull final ItemStack stack, final boolean simulate) {
+        return this.getDryerHandler(slot).insertItem(slot % SLOTS_PER_DRYER, stack, simulate);
+    }
+
+    @Nonnull
+    @Override
+    public ItemStack extractItem(final int slot, final int amount, final boolean simulate) {
+        return this.getDryerHandler(slot).extractItem(slot % SLOTS_PER_DRYER, amount, simulate);
+    }
+
+    @Override
+    public int getSlotLimit(final int slot) {
+        return this.getDryerHandler(slot).getSlotLimit(slot % SLOTS_PER_DRYER);
+    }
+
+    @Override
+    public boolean isItemValid(final int slot, @Nonnull final ItemStack stack) {
+        return this.getDryerHandler(slot).isItemValid(slot % SLOTS_PER_DRYER, stack);
+    }
+}
@@ -0,0 +1,23 @@
+package org.dawnoftimebuilder.client;
+
+import net.minecraft.client.Minecraft;
+import org.dawnoftimebuilder.network.SlotSync;
+import org.dawnoftimebuilder.network.SlotSyncPacket;
+
+public final class ClientPacketHandler {
+    private ClientPacketHandler() {}
+
+    public static void handleSlotSync(final SlotSyncPacket packet) {
+        final Minecraft minecraft = Minecraft.getInstance();
+        if(minecraft.level == null) {
+            return;
+        }
+        for(SlotSyncPacket.Entry entry : packet.getEntries()) {
+            if(minecraft.level.isLoaded(entry.getPos()) && minecraft.level.getBlockEntity(entry.getPos()) instanceof SlotSync.SyncedSlotsBlockEntity blockEntity) {
+                for(int i = 0; i < entry.getSize(); i++) {
+                    blockEntity.setSyncedSlot(entry.getSlot(i), entry.getStack(i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.dawnoftimebuilder.client;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.minecraft.client.Minecraft;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.dawnoftimebuilder.DoTBConfig;
+
+/**
+ * Measures the frame rate in front of a {@link org.dawnoftimebuilder.world.RenderBenchmarkScene}, with the client command
+ * "/dotb_fps seconds". The frames are sampled twice for the given time : first with the detail distance of the block
+ * entities pushed to their view distance, as if there was no LOD, then with the configured detail distance. The average
+ * frame rate and the frame rate of the slowest 1% frames of each sample are written in the chat.<p/>
+ * The command is only registered in the development runs. The camera should not move during the measure.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class FrameTimeSampler {
+    private static final LongArrayList FRAME_TIMES = new LongArrayList();
+    // 0 when idle, then 1 while sampling without the LOD and 2 while sampling with it.
+    private static int phase;
+    private static int seconds;
+    private static int configuredDetailDistance;
+    private static long phaseEndTime;
+    private static long lastFrameTime;
+
+    private FrameTimeSampler() {}
+
+    public static void register(final CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("dotb_fps")
+                .then(Commands.argument("seconds", IntegerArgumentType.integer(1, 120))
+                        .executes(context -> start(IntegerArgumentType.getInteger(context, "seconds")))));
+    }
+
+    private static int start(final int duration) {
+        if(phase != 0) {
+            return 0;
+        }
+        seconds = duration;
+        configuredDetailDistance = DoTBConfig.BLOCK_ENTITY_DETAIL_DISTANCE.get();
+        DoTBConfig.BLOCK_ENTITY_DETAIL_DISTANCE.set(DoTBConfig.BLOCK_ENTITY_VIEW_DISTANCE.get());
+        startPhase(1);
+        return 1;
+    }
+
+    private static void startPhase(final int newPhase) {
+        phase = newPhase;
+        FRAME_TIMES.clear();
+        lastFrameTime = 0;
+        phaseEndTime = System.nanoTime() + seconds * 1_000_000_000L;
+    }
+
+    /**
+     * Called at the end of each frame.
+     */
+    public static void onFrameEnd() {
+        if(phase == 0) {
+            return;
+        }
+        final long time = System.nanoTime();
+        if(lastFrameTime != 0) {
+            FRAME_TIMES.add(time - lastFrameTime);
+        }
+        lastFrameTime = time;
+        if(time < phaseEndTime) {
+            return;
+        }
+        report(phase == 1 ? "Without LOD" : "With LOD (detail distance " + configuredDetailDistance + ")");
+        if(phase == 1) {
+            DoTBConfig.BLOCK_ENTITY_DETAIL_DISTANCE.set(configuredDetailDistance);
+            startPhase(2);
+        } else {
+            phase = 0;
+        }
+    }
+
+    private static void report(final String label) {
+        if(FRAME_TIMES.isEmpty()) {
+            return;
+        }
+        long totalTime = 0;
+        for(int i = 0; i < FRAME_TIMES.size(); i++) {
+            totalTime += FRAME_TIMES.getLong(i);
+        }
+        LongArrays.quickSort(FRAME_TIMES.elements(), 0, FRAME_TIMES.size());
+        final long slowFrameTime = FRAME_TIMES.getLong((int) (FRAME_TIMES.size() * 0.99D));
+        final String message = String.format("%s : %.1f fps on average, %.1f fps for the slowest 1%% frames, over %d frames",
+                label, FRAME_TIMES.size() * 1.0E9D / totalTime, 1.0E9D / slowFrameTime, FRAME_TIMES.size());
+        Minecraft.getInstance().gui.getChat().addMessage(Component.literal(message));
+    }
+}
@@ -1,25 +1,51 @@
 package org.dawnoftimebuilder.client.renderer.blockentity;
 
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
 import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.world.item.*;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.items.IItemHandler;
+import org.dawnoftimebuilder.DoTBConfig;
 import org.dawnoftimebuilder.block.IBlockSpecialDisplay;
 import org.dawnoftimebuilder.block.templates.DisplayerBlock;
 import org.dawnoftimebuilder.blockentity.DisplayerBlockEntity;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 @OnlyIn(Dist.CLIENT)
 public class DisplayerBERenderer implements BlockEntityRenderer<DisplayerBlockEntity> {
+	// The renderers are created again on each resource reload, so the cached models never outlive their resources.
+	private final Map<DisplayerBlockEntity, DisplayedItems> cache = new WeakHashMap<>();
+	// Used to replay the baked vertices, only from the render thread.
+	private final Vector4f position = new Vector4f();
+	private final Vector3f normal = new Vector3f();
+
 	public DisplayerBERenderer(BlockEntityRendererProvider.Context context) {
 
 	}
@@ -27,8 +53,38 @@ public class DisplayerBERenderer implements BlockEntityRenderer<DisplayerBlockEn
 	@Override
 	public void render(DisplayerBlockEntity pBlockEntity, float pPartialTick, PoseStack pPoseStack, MultiBufferSource pBuffer, int pPackedLight, int pPackedOverlay) {
 		pBlockEntity.getCapability(ForgeCapabilities.ITEM_HANDLER).ifPresent(h -> {
-			BlockState state = pBlockEntity.getBlockState();
-			Level level = pBlockEntity.getLevel();
+			DisplayedItems displayedItems = cache.get(pBlockEntity);
+			if (displayedItems == null || displayedItems.version != pBlockEntity.getContentVersion() || displayedItems.state != pBlockEntity.getBlockState()) {
+				displayedItems = new DisplayedItems(pBlockEntity, h);
+				cache.put(pBlockEntity, displayedItems);
+			}
+			// Far from the camera, the animated items keep the model resolved with the cache.
+			Vec3 cameraPos = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+			boolean detailed = Vec3.atCenterOf(pBlockEntity.getBlockPos()).closerThan(cameraPos, DoTBConfig.BLOCK_ENTITY_DETAIL_DISTANCE.get());
+			displayedItems.render(pBlockEntity, detailed, pPoseStack, pBuffer, pPackedLight, pPackedOverlay, position, normal);
+		});
+	}
+
+	@Override
+	public int getViewDistance() {
+		return DoTBConfig.BLOCK_ENTITY_VIEW_DISTANCE.get();
+	}
+
+	/**
+	 * The items of a displayer, with their transformations and their models computed once, until the items or the
+	 * BlockState change. The items with a static model are also tessellated once, in a buffer for each RenderType that is
+	 * replayed on each frame. The animated items and the ones with a custom renderer are still rendered on each frame.
+	 */
+	private static class DisplayedItems {
+		private final int version;
+		private final BlockState state;
+		private final List<DisplayedItem> items = new ArrayList<>();
+		private final Map<RenderType, BakedBuffer> bakedBuffers = new LinkedHashMap<>();
+
+		private DisplayedItems(DisplayerBlockEntity blockEntity, IItemHandler h) {
+			this.version = blockEntity.getContentVersion();
+			this.state = blockEntity.getBlockState();
+			Level level = blockEntity.getLevel();
 			DisplayerBlock block = (DisplayerBlock) state.getBlock();
 			double xStart = block.getDisplayerX(state);
 			double yStart = block.getDisplayerY(state);
@@ -36,43 +92,187 @@ public class DisplayerBERenderer implements BlockEntityRenderer<DisplayerBlockEn
 
 			ItemStack itemStack;
 			float rotationAngle;
+			ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+			PoseStack poseStack = new PoseStack();
 
-			int j = (int) pBlockEntity.getBlockPos().asLong();
+			int j = (int) blockEntity.getBlockPos().asLong();
 
 			for(int i = 0; i < 9; i++) {
-				//After checking if the capability is there and set all the variables, we render each of the non-empty itemStack
+				//We compute the transformation of each of the non-empty itemStack
 				itemStack = h.getStackInSlot(i);
-				ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
 
 				if (!itemStack.isEmpty()) {
-					pPoseStack.pushPose();
-					pPoseStack.translate(xStart, yStart, zStart);
-					pPoseStack.translate((0.5D - xStart) * (i % 3), 0.015D, (0.5D - zStart) * Math.floor((double) i / 3));
+					ItemDisplayContext displayContext;
+					poseStack.pushPose();
+					poseStack.translate(xStart, yStart, zStart);
+					poseStack.translate((0.5D - xStart) * (i % 3), 0.015D, (0.5D - zStart) * Math.floor((double) i / 3));
 					if (i == 0 || i == 8) rotationAngle = 20.0F;
 					else if (i == 2 || i == 6) rotationAngle = -20.0F;
 					else rotationAngle = 0.0F;
 					Item item = itemStack.getItem();
 					if (item instanceof BlockItem) {
-						pPoseStack.mulPose(Axis.YP.rotationDegrees(rotationAngle));
+						poseStack.mulPose(Axis.YP.rotationDegrees(rotationAngle));
 						Block blockFromItem = ((BlockItem) item).getBlock();
 						if (blockFromItem instanceof IBlockSpecialDisplay) {
 							float scale = ((IBlockSpecialDisplay) blockFromItem).getDisplayScale();
-							pPoseStack.scale(scale, scale, scale);
-							pPoseStack.translate(0.0F, 0.485F, 0.0F);
+							poseStack.scale(scale, scale, scale);
+							poseStack.translate(0.0F, 0.485F, 0.0F);
 						} else {
-							pPoseStack.scale(0.2F, 0.2F, 0.2F);
-							pPoseStack.translate(0.0F, 0.45F, 0.0F);
+							poseStack.scale(0.2F, 0.2F, 0.2F);
+							poseStack.translate(0.0F, 0.45F, 0.0F);
 						}
-						itemRenderer.renderStatic(itemStack, ItemDisplayContext.NONE, pPackedLight, pPackedOverlay, pPoseStack, pBuffer, level, i + j);
+						displayContext = ItemDisplayContext.NONE;
+					} else {
+						poseStack.scale(0.3F, 0.3F, 0.3F);
+						poseStack.mulPose(Axis.YP.rotationDegrees(rotationAngle + 90.0F));
+						poseStack.mulPose(Axis.XN.rotationDegrees(90.0F));
+						displayContext = ItemDisplayContext.FIXED;
+					}
+					BakedModel model = itemRenderer.getModel(itemStack, level, null, i + j);
+					// The models with overrides (compass, clock...) may change each frame, so they are resolved again.
+					boolean animated = model.getOverrides() != ItemOverrides.EMPTY;
+					if (animated || model.isCustomRenderer()) {
+						items.add(new DisplayedItem(itemStack.copy(), displayContext, model, animated, i + j,
+								new Matrix4f(poseStack.last().pose()), new Matrix3f(poseStack.last().normal())));
 					} else {
-						pPoseStack.scale(0.3F, 0.3F, 0.3F);
-						pPoseStack.mulPose(Axis.YP.rotationDegrees(rotationAngle + 90.0F));
-						pPoseStack.mulPose(Axis.XN.rotationDegrees(90.0F));
-						itemRenderer.renderStatic(itemStack, ItemDisplayContext.FIXED, pPackedLight, pPackedOverlay, pPoseStack, pBuffer, level, i + j);
+						// The light and the overlay are given again when the vertices are replayed.
+						itemRenderer.render(itemStack, displayContext, false, poseStack, renderType -> bakedBuffers.computeIfAbsent(renderType, type -> new BakedBuffer()),
+								LightTexture.FULL_BRIGHT, OverlayTexture.NO_OVERLAY, model);
 					}
-					pPoseStack.popPose();
+					poseStack.popPose();
 				}
 			}
-		});
+		}
+
+		private void render(DisplayerBlockEntity blockEntity, boolean detailed, PoseStack poseStack, MultiBufferSource buffer, int packedLight, int packedOverlay, Vector4f position, Vector3f normal) {
+			for (Map.Entry<RenderType, BakedBuffer> entry : bakedBuffers.entrySet()) {
+				entry.getValue().replay(buffer.getBuffer(entry.getKey()), poseStack.last(), packedLight, packedOverlay, position, normal);
+			}
+			ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+			for (DisplayedItem item : items) {
+				BakedModel model = item.animated && detailed ? itemRenderer.getModel(item.itemStack, blockEntity.getLevel(), null, item.seed) : item.model;
+				poseStack.pushPose();
+				poseStack.last().pose().mul(item.pose);
+				poseStack.last().normal().mul(item.normal);
+				itemRenderer.render(item.itemStack, item.displayContext, false, poseStack, buffer, packedLight, packedOverlay, model);
+				poseStack.popPose();
+			}
+		}
+	}
+
+	private static class DisplayedItem {
+		private final ItemStack itemStack;
+		private final ItemDisplayContext displayContext;
+		private final BakedModel model;
+		private final boolean animated;
+		private final int seed;
+		private final Matrix4f pose;
+		private final Matrix3f normal;
+
+		private DisplayedItem(ItemStack itemStack, ItemDisplayContext displayContext, BakedModel model, boolean animated, int seed, Matrix4f pose, Matrix3f normal) {
+			this.itemStack = itemStack;
+			this.displayContext = displayContext;
+			this.model = model;
+			this.animated = animated;
+			this.seed = seed;
+			this.pose = pose;
+			this.normal = normal;
+		}
+	}
+
+	/**
+	 * Vertices of a RenderType, recorded once in the space of the block. The position of the block, the light and the
+	 * overlay are applied when the vertices are replayed.
+	 */
+	private static class BakedBuffer implements VertexConsumer {
+		// x, y, z, red, green, blue, alpha, u, v, normal x, normal y, normal z of each vertex.
+		private static final int STRIDE = 12;
+		private final FloatArrayList vertices = new FloatArrayList();
+		private float x, y, z, u, v, normalX, normalY, normalZ;
+		private int red = 255, green = 255, blue = 255, alpha = 255;
+		private boolean defaultColorSet;
+		private int defaultRed, defaultGreen, defaultBlue, defaultAlpha;
+
+		private void replay(VertexConsumer consumer, PoseStack.Pose pose, int packedLight, int packedOverlay, Vector4f position, Vector3f normal) {
+			float[] data = vertices.elements();
+			for (int i = 0; i < vertices.size(); i += STRIDE) {
+				pose.pose().transform(position.set(data[i], data[i + 1], data[i + 2], 1.0F));
+				pose.normal().transform(normal.set(data[i + 9], data[i + 10], data[i + 11]));
+				consumer.vertex(position.x(), position.y(), position.z(), data[i + 3], data[i + 4], data[i + 5], data[i + 6],
+						data[i + 7], data[i + 8], packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+			}
+		}
+
+		@Override
+		public VertexConsumer vertex(double pX, double pY, double pZ) {
+			x = (float) pX;
+			y = (float) pY;
+			z = (float) pZ;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int pRed, int pGreen, int pBlue, int pAlpha) {
+			red = pRed;
+			green = pGreen;
+			blue = pBlue;
+			alpha = pAlpha;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv(float pU, float pV) {
+			u = pU;
+			v = pV;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlayCoords(int pU, int pV) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv2(int pU, int pV) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float pX, float pY, float pZ) {
+			normalX = pX;
+			normalY = pY;
+			normalZ = pZ;
+			return this;
+		}
+
+		@Override
+		public void endVertex() {
+			vertices.add(x);
+			vertices.add(y);
+			vertices.add(z);
+			vertices.add((defaultColorSet ? defaultRed : red) / 255.0F);
+			vertices.add((defaultColorSet ? defaultGreen : green) / 255.0F);
+			vertices.add((defaultColorSet ? defaultBlue : blue) / 255.0F);
+			vertices.add((defaultColorSet ? defaultAlpha : alpha) / 255.0F);
+			vertices.add(u);
+			vertices.add(v);
+			vertices.add(normalX);
+			vertices.add(normalY);
+			vertices.add(normalZ);
+		}
+
+		@Override
+		public void defaultColor(int pRed, int pGreen, int pBlue, int pAlpha) {
+			defaultColorSet = true;
+			defaultRed = pRed;
+			defaultGreen = pGreen;
+			defaultBlue = pBlue;
+			defaultAlpha = pAlpha;
+		}
+
+		@Override
+		public void unsetDefaultColor() {
+			defaultColorSet = false;
+		}
 	}
 }
@@ -11,9 +11,11 @@ import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.items.IItemHandler;
+import org.dawnoftimebuilder.DoTBConfig;
 import org.dawnoftimebuilder.blockentity.DryerBlockEntity;
 
 @OnlyIn(Dist.CLIENT)
@@ -24,14 +26,22 @@ public class DryerBERenderer implements BlockEntityRenderer<DryerBlockEntity> {
 
     @Override
     public void render(DryerBlockEntity pBlockEntity, float pPartialTick, PoseStack pPoseStack, MultiBufferSource pBuffer, int pPackedLight, int pPackedOverlay) {
-        pBlockEntity.getCapability(ForgeCapabilities.ITEM_HANDLER).ifPresent(h -> {
-            this.renderItemModel(pBlockEntity, pPoseStack, h.getStackInSlot(0), pBuffer, pPackedLight, pPackedOverlay);
-            pPoseStack.translate(0, 0.5D, 0);
-            this.renderItemModel(pBlockEntity, pPoseStack, h.getStackInSlot(1), pBuffer, pPackedLight, pPackedOverlay);
-        });
+        // Far from the camera, a single item is rendered per slot instead of four.
+        final Vec3 cameraPos = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        final int copies = Vec3.atCenterOf(pBlockEntity.getBlockPos()).closerThan(cameraPos, DoTBConfig.BLOCK_ENTITY_DETAIL_DISTANCE.get()) ? 4 : 1;
+        // The capability gives access to the whole rack, so the own slots of the dryer are used.
+        final IItemHandler h = pBlockEntity.getItemHandler();
+        this.renderItemModel(pBlockEntity, pPoseStack, h.getStackInSlot(0), pBuffer, pPackedLight, pPackedOverlay, copies);
+        pPoseStack.translate(0, 0.5D, 0);
+        this.renderItemModel(pBlockEntity, pPoseStack, h.getStackInSlot(1), pBuffer, pPackedLight, pPackedOverlay, copies);
     }
 
-	public void renderItemModel(DryerBlockEntity dryerBlockEntity, PoseStack poseStack, ItemStack itemStack, MultiBufferSource buffer, int pPackedLight, int pPackedOverlay) {
+    @Override
+    public int getViewDistance() {
+        return DoTBConfig.BLOCK_ENTITY_VIEW_DISTANCE.get();
+    }
+
+	public void renderItemModel(DryerBlockEntity dryerBlockEntity, PoseStack poseStack, ItemStack itemStack, MultiBufferSource buffer, int pPackedLight, int pPackedOverlay, int copies) {
 	    if(itemStack.isEmpty())
             return;
 
@@ -41,7 +51,7 @@ public class DryerBERenderer implements BlockEntityRenderer<DryerBlockEntity> {
 
         int j = (int) dryerBlockEntity.getBlockPos().asLong();
 
-        for(int i = 0; i < 4; i++) {
+        for(int i = 0; i < copies; i++) {
             poseStack.pushPose();
             poseStack.translate(0.35D, 0, 0.35D);
             poseStack.translate((i == 1 || i == 2) ? 0.3D : 0, 0.1D, i >= 2 ? 0.3D : 0);
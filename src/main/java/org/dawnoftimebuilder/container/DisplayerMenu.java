@@ -6,19 +6,13 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
 import net.minecraft.world.inventory.Slot;
-import net.minecraft.world.item.BlockItem;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.items.SlotItemHandler;
-import org.dawnoftimebuilder.block.IBlockSpecialDisplay;
 import org.dawnoftimebuilder.blockentity.DisplayerBlockEntity;
 import org.dawnoftimebuilder.registry.DoTBMenuTypesRegistry;
 
-import static org.dawnoftimebuilder.block.templates.DisplayerBlock.LIT;
-
 public class DisplayerMenu extends AbstractContainerMenu {
 	private final DisplayerBlockEntity blockEntity;
 	private final ContainerLevelAccess levelAccess;
@@ -66,36 +60,6 @@ public class DisplayerMenu extends AbstractContainerMenu {
 		return stillValid(this.levelAccess, playerIn, this.blockEntity.getBlockState().getBlock());
 	}
 
-	@Override
-	public void broadcastChanges() {
-		super.broadcastChanges();
-		//Update light level
-		if(this.blockEntity.getLevel() != null && !this.blockEntity.getLevel().isClientSide()){
-			this.blockEntity.getCapability(ForgeCapabilities.ITEM_HANDLER).ifPresent(h -> {
-				boolean lit = false;
-				for(int index = 0; index < h.getSlots(); index++) {
-					ItemStack itemstack = h.getStackInSlot(index);
-					if (!itemstack.isEmpty()) {
-						Item item = itemstack.getItem();
-						if (item instanceof BlockItem) {
-							Block block = ((BlockItem) item).getBlock();
-							if (block instanceof IBlockSpecialDisplay) {
-								lit = ((IBlockSpecialDisplay) block).emitsLight();
-							} else {
-								lit = block.getLightEmission(block.defaultBlockState(), this.blockEntity.getLevel(), this.blockEntity.getBlockPos()) > 0;
-							}
-						}
-					}
-					if (lit)
-						break;
-				}
-				if(this.blockEntity.getBlockState().getValue(LIT) != lit){
-					this.blockEntity.getLevel().setBlock(this.blockEntity.getBlockPos(), this.blockEntity.getBlockState().setValue(LIT, lit), 10);
-				}
-			});
-		}
-	}
-
 	@Override
 	public ItemStack quickMoveStack(Player playerIn, int index) {
 		ItemStack itemStack = ItemStack.EMPTY;
@@ -40,7 +40,7 @@ public class SoilSeedsItem extends BlockItem implements IHasFlowerPot {
                 if(player == null || !player.getAbilities().instabuild) {
                     stack.shrink(1);
                 }
-                world.setBlock(pos, this.getPotBlock().getRandomState(), 2);
+                world.setBlock(pos, this.getPotBlock().getRandomState(world.getRandom()), 2);
                 return InteractionResult.SUCCESS;
             }
         }
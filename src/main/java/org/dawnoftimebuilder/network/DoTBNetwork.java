@@ -0,0 +1,28 @@
+package org.dawnoftimebuilder.network;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.simple.SimpleChannel;
+
+import static org.dawnoftimebuilder.DawnOfTimeBuilder.MOD_ID;
+
+public final class DoTBNetwork {
+    private static final String PROTOCOL_VERSION = "1";
+    public static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
+            new ResourceLocation(MOD_ID, "main"),
+            () -> PROTOCOL_VERSION,
+            PROTOCOL_VERSION::equals,
+            PROTOCOL_VERSION::equals);
+
+    private DoTBNetwork() {}
+
+    public static void register() {
+        int id = 0;
+        CHANNEL.messageBuilder(SlotSyncPacket.class, id++, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(SlotSyncPacket::encode)
+                .decoder(SlotSyncPacket::decode)
+                .consumerMainThread(SlotSyncPacket::handle)
+                .add();
+    }
+}
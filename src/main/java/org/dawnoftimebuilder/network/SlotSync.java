@@ -0,0 +1,95 @@
+package org.dawnoftimebuilder.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the slots of the block entities that changed during a tick, and sends them to the players tracking their chunk
+ * at the end of the tick, in a single {@link SlotSyncPacket} per chunk.
+ */
+public final class SlotSync {
+    private static final Map<ServerLevel, Reference2IntLinkedOpenHashMap<BlockEntity>> DIRTY_SLOTS = new IdentityHashMap<>();
+
+    private SlotSync() {}
+
+    /**
+     * Marks a slot to be sent to the clients at the end of the tick. Does nothing on the client side.
+     *
+     * @param blockEntity A {@link SyncedSlotsBlockEntity} with at most 32 slots.
+     * @param slot        Index of the slot that changed.
+     */
+    public static <T extends BlockEntity & SyncedSlotsBlockEntity> void markDirty(final T blockEntity, final int slot) {
+        if(blockEntity.getLevel() instanceof ServerLevel serverLevel) {
+            final Reference2IntLinkedOpenHashMap<BlockEntity> dirtySlots = DIRTY_SLOTS.computeIfAbsent(serverLevel, key -> new Reference2IntLinkedOpenHashMap<>());
+            dirtySlots.put(blockEntity, dirtySlots.getInt(blockEntity) | (1 << slot));
+        }
+    }
+
+    public static void flush(final ServerLevel level) {
+        final Reference2IntLinkedOpenHashMap<BlockEntity> dirtySlots = DIRTY_SLOTS.get(level);
+        if(dirtySlots == null || dirtySlots.isEmpty()) {
+            return;
+        }
+        final Long2ObjectLinkedOpenHashMap<List<SlotSyncPacket.Entry>> entriesByChunk = new Long2ObjectLinkedOpenHashMap<>();
+        for(Reference2IntMap.Entry<BlockEntity> entry : dirtySlots.reference2IntEntrySet()) {
+            final BlockEntity blockEntity = entry.getKey();
+            if(blockEntity.isRemoved() || !(blockEntity instanceof SyncedSlotsBlockEntity synced)) {
+                continue;
+            }
+            final int mask = entry.getIntValue();
+            final int size = Integer.bitCount(mask);
+            final int[] slots = new int[size];
+            final ItemStack[] stacks = new ItemStack[size];
+            int index = 0;
+            for(int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                final int slot = Integer.numberOfTrailingZeros(remaining);
+                slots[index] = slot;
+                stacks[index] = synced.getSyncedSlot(slot);
+                index++;
+            }
+            entriesByChunk.computeIfAbsent(ChunkPos.asLong(blockEntity.getBlockPos()), key -> new ArrayList<>())
+                    .add(new SlotSyncPacket.Entry(blockEntity.getBlockPos(), slots, stacks));
+        }
+        dirtySlots.clear();
+        for(Long2ObjectMap.Entry<List<SlotSyncPacket.Entry>> entry : entriesByChunk.long2ObjectEntrySet()) {
+            final ChunkPos chunkPos = new ChunkPos(entry.getLongKey());
+            DoTBNetwork.CHANNEL.send(PacketDistributor.TRACKING_CHUNK.with(() -> level.getChunk(chunkPos.x, chunkPos.z)), new SlotSyncPacket(entry.getValue()));
+        }
+    }
+
+    public static void remove(final ServerLevel level) {
+        DIRTY_SLOTS.remove(level);
+    }
+
+    /**
+     * A {@link BlockEntity} whose slots are sent to the clients with {@link SlotSync#markDirty(BlockEntity, int)} instead
+     * of block updates.
+     */
+    public interface SyncedSlotsBlockEntity {
+        /**
+         * @param slot Index of the slot.
+         * @return The ItemStack to send to the clients, on the server side.
+         */
+        ItemStack getSyncedSlot(int slot);
+
+        /**
+         * Sets the ItemStack received from the server, on the client side.
+         *
+         * @param slot  Index of the slot.
+         * @param stack ItemStack of the slot on the server.
+         */
+        void setSyncedSlot(int slot, ItemStack stack);
+    }
+}
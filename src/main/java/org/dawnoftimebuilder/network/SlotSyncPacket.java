@@ -0,0 +1,94 @@
+package org.dawnoftimebuilder.network;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+import org.dawnoftimebuilder.client.ClientPacketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Sends the content of some slots of the {@link SlotSync.SyncedSlotsBlockEntity} of a chunk to the clients. Unlike a
+ * block update, it doesn't mark the chunk section for a rebuild : the block entity renderers read the new items on the
+ * next frame.
+ */
+public class SlotSyncPacket {
+    private final List<Entry> entries;
+
+    public SlotSyncPacket(final List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    public void encode(final FriendlyByteBuf buf) {
+        buf.writeVarInt(this.entries.size());
+        for(Entry entry : this.entries) {
+            buf.writeBlockPos(entry.pos);
+            buf.writeVarInt(entry.slots.length);
+            for(int i = 0; i < entry.slots.length; i++) {
+                buf.writeVarInt(entry.slots[i]);
+                buf.writeItem(entry.stacks[i]);
+            }
+        }
+    }
+
+    public static SlotSyncPacket decode(final FriendlyByteBuf buf) {
+        final int entryCount = buf.readVarInt();
+        final List<Entry> entries = new ArrayList<>(entryCount);
+        for(int entry = 0; entry < entryCount; entry++) {
+            final BlockPos pos = buf.readBlockPos();
+            final int size = buf.readVarInt();
+            final int[] slots = new int[size];
+            final ItemStack[] stacks = new ItemStack[size];
+            for(int i = 0; i < size; i++) {
+                slots[i] = buf.readVarInt();
+                stacks[i] = buf.readItem();
+            }
+            entries.add(new Entry(pos, slots, stacks));
+        }
+        return new SlotSyncPacket(entries);
+    }
+
+    public void handle(final Supplier<NetworkEvent.Context> context) {
+        DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> ClientPacketHandler.handleSlotSync(this));
+    }
+
+    /**
+     * The changed slots of a single block entity.
+     */
+    public static class Entry {
+        private final BlockPos pos;
+        private final int[] slots;
+        private final ItemStack[] stacks;
+
+        public Entry(final BlockPos pos, final int[] slots, final ItemStack[] stacks) {
+            this.pos = pos;
+            this.slots = slots;
+            this.stacks = stacks;
+        }
+
+        public BlockPos getPos() {
+            return this.pos;
+        }
+
+        public int getSize() {
+            return this.slots.length;
+        }
+
+        public int getSlot(final int index) {
+            return this.slots[index];
+        }
+
+        public ItemStack getStack(final int index) {
+            return this.stacks[index];
+        }
+    }
+}
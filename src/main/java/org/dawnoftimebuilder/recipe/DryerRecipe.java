@@ -42,7 +42,11 @@ public class DryerRecipe implements Recipe<SimpleContainer> {
 
     @Override
     public boolean matches(SimpleContainer inv, Level worldIn) {
-        return this.ingredient.test(inv.getItem(0)) && inv.getItem(0).getCount() >= this.ingredient.getItems()[0].getCount();
+        return this.matches(inv.getItem(0));
+    }
+
+    public boolean matches(ItemStack itemStack) {
+        return this.ingredient.test(itemStack) && itemStack.getCount() >= this.ingredient.getItems()[0].getCount();
     }
 
     @Override
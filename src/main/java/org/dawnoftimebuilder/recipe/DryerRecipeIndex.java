@@ -0,0 +1,83 @@
+package org.dawnoftimebuilder.recipe;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import org.dawnoftimebuilder.registry.DoTBRecipeTypesRegistry;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drying recipes indexed by the items of their ingredient (tags included), so that the recipe of an ItemStack is found
+ * without testing every recipe. The index is rebuilt when the RecipeManager changes (datapack reload), or when the tags are
+ * updated.
+ */
+public final class DryerRecipeIndex {
+    @Nullable
+    private static volatile DryerRecipeIndex INSTANCE;
+
+    private final RecipeManager recipeManager;
+    private final Reference2ObjectOpenHashMap<Item, List<DryerRecipe>> recipesByItem = new Reference2ObjectOpenHashMap<>();
+    // Recipes whose ingredient can't list its items. They are tested for every ItemStack.
+    private final List<DryerRecipe> unindexedRecipes = new ArrayList<>();
+
+    private DryerRecipeIndex(final RecipeManager recipeManager) {
+        this.recipeManager = recipeManager;
+        for(DryerRecipe recipe : recipeManager.getAllRecipesFor(DoTBRecipeTypesRegistry.DRYING.get())) {
+            final ItemStack[] items = recipe.ingredient.getItems();
+            if(items.length == 0) {
+                this.unindexedRecipes.add(recipe);
+                continue;
+            }
+            for(ItemStack stack : items) {
+                final List<DryerRecipe> recipes = this.recipesByItem.computeIfAbsent(stack.getItem(), item -> new ArrayList<>(1));
+                if(!recipes.contains(recipe)) {
+                    recipes.add(recipe);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param recipeManager RecipeManager of the world.
+     * @param itemStack     ItemStack to dry.
+     *
+     * @return The first drying recipe that accepts this ItemStack, or null if there is none.
+     */
+    @Nullable
+    public static DryerRecipe getRecipe(final RecipeManager recipeManager, final ItemStack itemStack) {
+        if(itemStack.isEmpty()) {
+            return null;
+        }
+        DryerRecipeIndex index = INSTANCE;
+        if(index == null || index.recipeManager != recipeManager) {
+            index = new DryerRecipeIndex(recipeManager);
+            INSTANCE = index;
+        }
+        final List<DryerRecipe> recipes = index.recipesByItem.get(itemStack.getItem());
+        if(recipes != null) {
+            for(DryerRecipe recipe : recipes) {
+                if(recipe.matches(itemStack)) {
+                    return recipe;
+                }
+            }
+        }
+        for(DryerRecipe recipe : index.unindexedRecipes) {
+            if(recipe.matches(itemStack)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clears the index. It is rebuilt on the next search, since the items of the {@link Ingredient} may have changed.
+     */
+    public static void invalidate() {
+        INSTANCE = null;
+    }
+}
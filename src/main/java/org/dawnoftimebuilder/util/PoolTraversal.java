@@ -0,0 +1,176 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import org.dawnoftimebuilder.DoTBConfig;
+import org.dawnoftimebuilder.block.templates.PoolBlock;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Iterative breadth-first walk over the pools horizontally connected to a position.<p/>
+ * The positions are handled as packed longs ({@link BlockPos#asLong()}), stored in a primitive open-addressing set and an
+ * array-backed queue. Both arrays are kept between two walks (one instance per thread), so that a walk does not allocate
+ * anything once the arrays are big enough. The number of visited pools is bounded by {@link DoTBConfig#POOL_MAX_BASIN_SIZE}.
+ */
+public final class PoolTraversal {
+    private static final ThreadLocal<PoolTraversal> INSTANCE = ThreadLocal.withInitial(PoolTraversal::new);
+    private static final Direction[] HORIZONTAL_DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+    // BlockPos.asLong() can't return this value for a position inside the world border, so it marks the empty slots.
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private long[] visited = new long[INITIAL_CAPACITY * 2];
+    private long[] queue = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean running;
+
+    private PoolTraversal() {
+        Arrays.fill(this.visited, EMPTY);
+    }
+
+    /**
+     * Visits the position, then all the pools connected to it horizontally. The start position is always visited, even if
+     * it is not a pool, so that a future pool can be tested during its placement.
+     *
+     * @param level    World where the pools are placed.
+     * @param startPos BlockPos where the walk begins.
+     * @param visitor  Called once for each visited position. The walk stops as soon as it returns false.
+     *
+     * @return The number of visited positions.
+     */
+    public static int walk(final LevelAccessor level, final BlockPos startPos, final Visitor visitor) {
+        return PoolTraversal.walk(level, startPos, packedPos -> true, visitor);
+    }
+
+    /**
+     * Same as {@link #walk(LevelAccessor, BlockPos, Visitor)}, but the pools refused by the filter are neither visited nor
+     * crossed, and are not counted in the size of the basin.
+     *
+     * @param level    World where the pools are placed.
+     * @param startPos BlockPos where the walk begins.
+     * @param filter   Tested on each connected pool before it is visited.
+     * @param visitor  Called once for each visited position. The walk stops as soon as it returns false.
+     *
+     * @return The number of visited positions.
+     */
+    public static int walk(final LevelAccessor level, final BlockPos startPos, final LongPredicate filter, final Visitor visitor) {
+        PoolTraversal traversal = INSTANCE.get();
+        // A visitor that starts another walk gets its own buffers.
+        if(traversal.running) {
+            traversal = new PoolTraversal();
+        }
+        return traversal.run(level, startPos, filter, visitor);
+    }
+
+    private int run(final LevelAccessor level, final BlockPos startPos, final LongPredicate filter, final Visitor visitor) {
+        this.running = true;
+        try {
+            final int maxSize = DoTBConfig.POOL_MAX_BASIN_SIZE.get();
+            final long start = startPos.asLong();
+            this.add(start);
+            int head = 0;
+            boolean carryOn = visitor.visit(start, level.getBlockState(startPos));
+            while(carryOn && head < this.size) {
+                final long packedPos = this.queue[head++];
+                for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+                    if(this.size >= maxSize) {
+                        return this.size;
+                    }
+                    final long adjacentPos = BlockPos.offset(packedPos, direction);
+                    if(this.contains(adjacentPos)) {
+                        continue;
+                    }
+                    final BlockState adjacentState = level.getBlockState(this.pos.set(adjacentPos));
+                    if(adjacentState.getBlock() instanceof PoolBlock && filter.test(adjacentPos)) {
+                        this.add(adjacentPos);
+                        if(!visitor.visit(adjacentPos, adjacentState)) {
+                            carryOn = false;
+                            break;
+                        }
+                    }
+                }
+            }
+            return this.size;
+        } finally {
+            this.clear();
+            this.running = false;
+        }
+    }
+
+    private boolean contains(final long packedPos) {
+        final int mask = this.visited.length - 1;
+        for(int slot = hash(packedPos) & mask; this.visited[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if(this.visited[slot] == packedPos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(final long packedPos) {
+        // The set is kept at most half full.
+        if((this.size + 1) * 2 > this.visited.length) {
+            this.rehash(this.visited.length * 2);
+        }
+        final int mask = this.visited.length - 1;
+        int slot = hash(packedPos) & mask;
+        while(this.visited[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        this.visited[slot] = packedPos;
+        if(this.size == this.queue.length) {
+            this.queue = Arrays.copyOf(this.queue, this.queue.length * 2);
+        }
+        this.queue[this.size++] = packedPos;
+    }
+
+    private void rehash(final int capacity) {
+        this.visited = new long[capacity];
+        Arrays.fill(this.visited, EMPTY);
+        final int mask = capacity - 1;
+        for(int i = 0; i < this.size; i++) {
+            int slot = hash(this.queue[i]) & mask;
+            while(this.visited[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            this.visited[slot] = this.queue[i];
+        }
+    }
+
+    /**
+     * Every visited position is also in the queue, so only the used slots need to be emptied. The probing doesn't stop on
+     * empty slots here, since the searched position is always still in the table.
+     */
+    private void clear() {
+        final int mask = this.visited.length - 1;
+        for(int i = 0; i < this.size; i++) {
+            int slot = hash(this.queue[i]) & mask;
+            while(this.visited[slot] != this.queue[i]) {
+                slot = (slot + 1) & mask;
+            }
+            this.visited[slot] = EMPTY;
+        }
+        this.size = 0;
+    }
+
+    private static int hash(final long packedPos) {
+        final long hash = packedPos * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * @param packedPos Position visited, packed with {@link BlockPos#asLong()}.
+         * @param state     BlockState at this position.
+         *
+         * @return False to stop the walk.
+         */
+        boolean visit(long packedPos, BlockState state);
+    }
+}
@@ -0,0 +1,32 @@
+package org.dawnoftimebuilder.util;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+
+/**
+ * Random values derived from a position and a salt (usually the game time), without any allocation. The same position
+ * and salt always give the same value, so that the results can be reproduced.<p/>
+ * For the random values that don't need to be reproduced, use the RandomSource of the level instead.
+ */
+public final class PositionalRandom {
+    private PositionalRandom() {}
+
+    /**
+     * @param pos  Position used as the seed.
+     * @param salt Any value to vary the result at the same position, like the game time.
+     * @return A well-mixed long that only depends on the position and the salt.
+     */
+    public static long nextLong(final BlockPos pos, final long salt) {
+        return HashCommon.mix(Mth.getSeed(pos) ^ HashCommon.mix(salt));
+    }
+
+    /**
+     * @param pos  Position used as the seed.
+     * @param salt Any value to vary the result at the same position, like the game time.
+     * @return A float in [0, 1) that only depends on the position and the salt.
+     */
+    public static float nextFloat(final BlockPos pos, final long salt) {
+        return (nextLong(pos, salt) >>> 40) * 0x1.0p-24F;
+    }
+}
@@ -0,0 +1,111 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.dawnoftimebuilder.DawnOfTimeBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.dawnoftimebuilder.DawnOfTimeBuilder.MOD_ID;
+
+/**
+ * The VoxelShape tables that are expensive to build. Each table is built only once : either in parallel on the common
+ * fork-join pool when {@link #buildAllAsync()} is called during the mod construction, or lazily on the first call of
+ * {@link #get()}. The built tables are interned with {@link VoxelShapesBuilder#intern(VoxelShape[])}.
+ */
+public enum ShapeTable {
+    BEAM(VoxelShapesBuilder::makeBeamShapes),
+    CHARRED_SPRUCE_FANCY_RAILING(VoxelShapesBuilder::makeCharredSpruceFancyRailingShapes),
+    CHARRED_SPRUCE_SHUTTERS(VoxelShapesBuilder::makeCharredSpruceShuttersShapes),
+    CHARRED_SPRUCE_TALL_SHUTTERS(VoxelShapesBuilder::makeCharredSpruceTallShuttersShapes),
+    EDGE(VoxelShapesBuilder::makeEdgeShapes),
+    GREEN_SCULPTED_PLASTERED_STONE_FRIEZE(VoxelShapesBuilder::makeGreenSculptedPlasteredStoneFriezeShapes),
+    IRON_COLUMN(VoxelShapesBuilder::makeIronColumnShapes),
+    IRON_FANCY_LANTERN(VoxelShapesBuilder::makeIronFancyLanternShapes),
+    IRON_FENCE(VoxelShapesBuilder::makeIronFenceShapes),
+    IVY(VoxelShapesBuilder::makeIvyShapes),
+    LATTICE(VoxelShapesBuilder::makeLatticeShapes),
+    LIMESTONE_CHIMNEY(VoxelShapesBuilder::makeLimestoneChimneyShapes),
+    LIMESTONE_SIDED_COLUMN(VoxelShapesBuilder::makeLimestoneSidedColumnShapes),
+    MARBLE_COLUMN(VoxelShapesBuilder::makeMarbleColumnShapes),
+    MARBLE_SIDED_COLUMN(VoxelShapesBuilder::makeMarbleSidedColumnShapes),
+    MORAQ_MOSAIC_COLUMN(VoxelShapesBuilder::makeMoraqMosaicColumnShapes),
+    MULTIBLOCK_FIREPLACE(VoxelShapesBuilder::makeMultiblockFireplaceShapes),
+    PERGOLA(VoxelShapesBuilder::makePergolaShapes),
+    PLASTERED_STONE_COLUMN(VoxelShapesBuilder::makePlasteredStoneColumnShapes),
+    PLATE(VoxelShapesBuilder::makePlateShapes),
+    POOL(VoxelShapesBuilder::makePoolShapes),
+    RED_SCULPTED_PLASTERED_STONE_FRIEZE(VoxelShapesBuilder::makeRedSculptedPlasteredStoneFriezeShapes),
+    REINFORCED_IRON_FENCE(VoxelShapesBuilder::makeReinforcedIronFenceShapes),
+    RELIEF(VoxelShapesBuilder::makeReliefShapes),
+    SANDSTONE_CRENELATION(VoxelShapesBuilder::makeSandstoneCrenelationShapes),
+    SANDSTONE_SIDED_COLUMN(VoxelShapesBuilder::makeSandstoneSidedColumnShapes),
+    SERPENT_SCULPTED_COLUMN(VoxelShapesBuilder::makeSerpentSculptedColumnShapes),
+    SMALL_POOL_COLLISION(VoxelShapesBuilder::makeSmallPoolCollisionShapes),
+    SMALL_POOL(VoxelShapesBuilder::makeSmallPoolShapes),
+    SMALL_SHUTTER(VoxelShapesBuilder::makeSmallShutterShapes),
+    SMALL_TATAMI_MAT(VoxelShapesBuilder::makeSmallTatamiMatShapes),
+    STONE_BRICKS_ARROWSLIT(VoxelShapesBuilder::makeStoneBricksArrowslitShapes),
+    STONE_BRICKS_CHIMNEY(VoxelShapesBuilder::makeStoneBricksChimneyShapes),
+    STONE_BRICKS_MACHICOLATION(VoxelShapesBuilder::makeStoneBricksMachicolationShapes),
+    STONE_LANTERN(VoxelShapesBuilder::makeStoneLanternShapes),
+    SUPPORT_BEAM(VoxelShapesBuilder::makeSupportBeamShapes),
+    SUPPORT_SLAB(VoxelShapesBuilder::makeSupportSlabShapes),
+    THIN_PLATE(VoxelShapesBuilder::makeThinPlateShapes),
+    WAXED_OAK_BALUSTER(VoxelShapesBuilder::makeWaxedOakBalusterShapes),
+    WAXED_OAK_CHAIR(VoxelShapesBuilder::makeWaxedOakChairShapes),
+    WAXED_OAK_TABLE(VoxelShapesBuilder::makeWaxedOakTableShapes),
+    CAPPED_WALL(() -> VoxelShapesBuilder.makeCappedWallShapes(16.0F, 14.0F)),
+    CAPPED_WALL_COLLISION(() -> VoxelShapesBuilder.makeCappedWallShapes(24.0F, 24.0F));
+
+    private static final AtomicLong BUILD_TIME = new AtomicLong();
+    private final Supplier<VoxelShape[]> builder;
+    private CompletableFuture<VoxelShape[]> table;
+
+    ShapeTable(final Supplier<VoxelShape[]> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * @return The VoxelShape table, built on the calling thread if its construction didn't start yet.
+     */
+    public VoxelShape[] get() {
+        return this.start(Runnable::run).join();
+    }
+
+    /**
+     * Starts building all the tables on the common fork-join pool.
+     */
+    public static void buildAllAsync() {
+        for(ShapeTable table : values()) {
+            table.start(ForkJoinPool.commonPool());
+        }
+    }
+
+    /**
+     * Logs the time spent building the tables, summed over all the threads.
+     */
+    public static void logBuildTime() {
+        DawnOfTimeBuilder.LOG.info(MOD_ID + " : Built " + values().length + " VoxelShape tables in " + TimeUnit.NANOSECONDS.toMillis(BUILD_TIME.get()) + " ms.");
+    }
+
+    private synchronized CompletableFuture<VoxelShape[]> start(final Executor executor) {
+        if(this.table == null) {
+            this.table = CompletableFuture.supplyAsync(this::build, executor);
+        }
+        return this.table;
+    }
+
+    private VoxelShape[] build() {
+        final long start = System.nanoTime();
+        final VoxelShape[] shapes = VoxelShapesBuilder.intern(this.builder.get());
+        final long duration = System.nanoTime() - start;
+        BUILD_TIME.addAndGet(duration);
+        DawnOfTimeBuilder.LOG.debug(MOD_ID + " : Built the VoxelShape table " + this + " (" + shapes.length + " shapes) in " + TimeUnit.NANOSECONDS.toMicros(duration) + " us.");
+        return shapes;
+    }
+}
@@ -15,6 +15,7 @@ import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.*;
 import net.minecraft.world.item.alchemy.Potion;
@@ -33,18 +34,18 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.dawnoftimebuilder.DawnOfTimeBuilder;
 import org.dawnoftimebuilder.block.templates.WaterloggedBlock;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.dawnoftimebuilder.util.VoxelShapes.SHAPE_DOWN_4x4;
 
 public class Utils {
-    //General
-    public static final int HIGHEST_Y = 255;
     //Tooltip translation text
     public static final Component TOOLTIP_HOLD_SHIFT = Component.translatable("tooltip." +
             DawnOfTimeBuilder.MOD_ID + ".hold_key").withStyle(ChatFormatting.GRAY).append(Component.translatable("tooltip." +
@@ -71,24 +72,13 @@ public class Utils {
      * @return A table filled with the previous VS and new ones rotated in each 3 horizontal directions.
      */
     public static VoxelShape[] generateHorizontalShapes(final VoxelShape[] shapes, VoxelShape... nonRotatedShapes) {
-        final VoxelShape[] newShape = {Shapes.empty()};
         final VoxelShape[] newShapes = new VoxelShape[shapes.length * 4 + nonRotatedShapes.length];
         int i = 0;
-        // First we copy the provided array at the start of the new one.
-        for(final VoxelShape shape : shapes) {
-            newShapes[i] = shape;
-            i++;
-        }
-        // Then rotate the provided array in each direction, and add it the new array.
-        for(int rotation = 1; rotation < 4; rotation++) {
-            int j = 0;
+        // The provided array is copied at the start of the new one, then rotated in each direction from the original shapes.
+        for(int rotation = 0; rotation < 4; rotation++) {
             for(final VoxelShape shape : shapes) {
-                shape.forAllBoxes((minX, minY, minZ, maxX, maxY, maxZ) -> newShape[0] = Shapes.or(newShape[0], Shapes.box(1 - maxZ, minY, minX, 1 - minZ, maxY, maxX)));
-                shapes[j] = newShape[0];
-                newShapes[i] = newShape[0];
-                newShape[0] = Shapes.empty();
+                newShapes[i] = VoxelShapesBuilder.rotateHorizontally(shape, rotation);
                 i++;
-                j++;
             }
         }
         // Lastly, we add the non-rotated shapes at the end of the array.
@@ -96,7 +86,7 @@ public class Utils {
             newShapes[i] = shape;
             i++;
         }
-        return newShapes;
+        return VoxelShapesBuilder.intern(newShapes);
     }
 
     /**
@@ -115,7 +105,7 @@ public class Utils {
     }
 
     /**
-     * Drops each item in the List of ItemStack one by one.
+     * Drops the items of the List of ItemStack, merged by item.
      *
      * @param worldIn    World of the Block.
      * @param pos        Position of the Block.
@@ -128,15 +118,77 @@ public class Utils {
         if(drops.isEmpty() || !(worldIn instanceof Level)) {
             return false;
         }
+        final List<ItemStack> stacks = new ArrayList<>(drops.size());
         for(final ItemStack drop : drops) {
             final int quantity = (int) Math.floor(drop.getCount() * multiplier);
-            for(int i = 0; i < quantity; i++) {
-                Block.popResource((Level) worldIn, pos, new ItemStack(drop.getItem(), 1));
+            if(quantity > 0) {
+                stacks.add(new ItemStack(drop.getItem(), quantity));
             }
         }
+        for(final ItemStack stack : mergeStacks(stacks)) {
+            Block.popResource((Level) worldIn, pos, stack);
+        }
         return true;
     }
 
+    /**
+     * Drops the content of an inventory, like {@link net.minecraft.world.Containers#dropContents(Level, BlockPos, net.minecraft.core.NonNullList)},
+     * but the identical items are merged first, so that each kind of item spawns a single ItemEntity per full stack.
+     *
+     * @param level   World of the Block.
+     * @param pos     Position of the Block.
+     * @param handler Inventory dropped.
+     */
+    public static void dropItemHandlerContent(final Level level, final BlockPos pos, final IItemHandler handler) {
+        final List<ItemStack> stacks = new ArrayList<>(handler.getSlots());
+        for(int slot = 0; slot < handler.getSlots(); slot++) {
+            stacks.add(handler.getStackInSlot(slot));
+        }
+        for(final ItemStack stack : mergeStacks(stacks)) {
+            final ItemEntity itemEntity = new ItemEntity(level, pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, stack);
+            itemEntity.setDefaultPickUpDelay();
+            level.addFreshEntity(itemEntity);
+        }
+    }
+
+    /**
+     * Merges the ItemStacks with the same item and tags, then splits them by their max stack size.
+     *
+     * @param stacks ItemStacks to merge. They are not modified.
+     *
+     * @return A new list of ItemStacks, without empty ones.
+     */
+    public static List<ItemStack> mergeStacks(final List<ItemStack> stacks) {
+        final List<ItemStack> merged = new ArrayList<>();
+        for(final ItemStack stack : stacks) {
+            if(stack.isEmpty()) {
+                continue;
+            }
+            ItemStack sameStack = null;
+            for(final ItemStack mergedStack : merged) {
+                if(ItemStack.isSameItemSameTags(mergedStack, stack)) {
+                    sameStack = mergedStack;
+                    break;
+                }
+            }
+            if(sameStack == null) {
+                merged.add(stack.copy());
+            } else {
+                sameStack.grow(stack.getCount());
+            }
+        }
+        final List<ItemStack> split = new ArrayList<>(merged.size());
+        for(final ItemStack stack : merged) {
+            int remaining = stack.getCount();
+            while(remaining > 0) {
+                final int count = Math.min(remaining, stack.getMaxStackSize());
+                split.add(stack.copyWithCount(count));
+                remaining -= count;
+            }
+        }
+        return split;
+    }
+
     /**
      * Function that checks if the clickLocation is located on the lef half of a block.
      * @param clickedPos of the target block.
@@ -0,0 +1,129 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+/**
+ * Vertical scans bounded by the build height of the level instead of a fixed height, so that they work in the dimensions
+ * with a custom height. The blocks are read from the sections of the chunk : the sections that contain only air end the
+ * scan at once, and the scans going up stop at the surface of the chunk.
+ */
+public final class VerticalScan {
+    private VerticalScan() {}
+
+    /**
+     * @param level World or chunk with a build height.
+     * @return The highest Y at which a block can be placed.
+     */
+    public static int getMaxY(final LevelHeightAccessor level) {
+        return level.getMaxBuildHeight() - 1;
+    }
+
+    /**
+     * Goes up from this position as long as the block is found.
+     *
+     * @param level World where the scan is done.
+     * @param pos   Start of the scan.
+     * @param block Block searched, must not be air.
+     * @return The Y of the highest block of the run that starts at this position, or the Y under the position if the
+     * block is not there.
+     */
+    public static int getRunTopY(final Level level, final BlockPos pos, final Block block) {
+        if(level.isOutsideBuildHeight(pos)) {
+            return pos.getY() - 1;
+        }
+        return VerticalScan.getRunTopY(level.getChunkAt(pos), pos, block);
+    }
+
+    /**
+     * Same as {@link #getRunTopY(Level, BlockPos, Block)}, inside a single chunk. The chunk has the build height of its level.
+     *
+     * @param chunk Chunk that contains the position.
+     * @param pos   Start of the scan.
+     * @param block Block searched, must not be air.
+     * @return The Y of the highest block of the run that starts at this position, or the Y under the position if the
+     * block is not there.
+     */
+    public static int getRunTopY(final ChunkAccess chunk, final BlockPos pos, final Block block) {
+        int topY = pos.getY() - 1;
+        if(chunk.isOutsideBuildHeight(pos)) {
+            return topY;
+        }
+        final int x = pos.getX() & 15;
+        final int z = pos.getZ() & 15;
+        // Above the surface of the chunk, there is only air.
+        final int maxY = Math.min(getMaxY(chunk), chunk.getHeight(Heightmap.Types.WORLD_SURFACE, x, z));
+        while(topY < maxY) {
+            final int sectionIndex = chunk.getSectionIndex(topY + 1);
+            final LevelChunkSection section = chunk.getSection(sectionIndex);
+            if(section.hasOnlyAir()) {
+                return topY;
+            }
+            final int sectionTopY = Math.min(maxY, SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex)) + 15);
+            for(int y = topY + 1; y <= sectionTopY; y++) {
+                if(section.getBlockState(x, y & 15, z).getBlock() != block) {
+                    return topY;
+                }
+                topY = y;
+            }
+        }
+        return topY;
+    }
+
+    /**
+     * Goes down from this position as long as the block is found.
+     *
+     * @param level World where the scan is done.
+     * @param pos   Start of the scan.
+     * @param block Block searched, must not be air.
+     * @return The Y of the lowest block of the run that starts at this position, or the Y above the position if the
+     * block is not there.
+     */
+    public static int getRunBottomY(final Level level, final BlockPos pos, final Block block) {
+        if(level.isOutsideBuildHeight(pos)) {
+            return pos.getY() + 1;
+        }
+        return VerticalScan.getRunBottomY(level.getChunkAt(pos), pos, block);
+    }
+
+    /**
+     * Same as {@link #getRunBottomY(Level, BlockPos, Block)}, inside a single chunk. The chunk has the build height of its
+     * level.
+     *
+     * @param chunk Chunk that contains the position.
+     * @param pos   Start of the scan.
+     * @param block Block searched, must not be air.
+     * @return The Y of the lowest block of the run that starts at this position, or the Y above the position if the
+     * block is not there.
+     */
+    public static int getRunBottomY(final ChunkAccess chunk, final BlockPos pos, final Block block) {
+        int bottomY = pos.getY() + 1;
+        if(chunk.isOutsideBuildHeight(pos)) {
+            return bottomY;
+        }
+        final int x = pos.getX() & 15;
+        final int z = pos.getZ() & 15;
+        final int minY = chunk.getMinBuildHeight();
+        while(bottomY > minY) {
+            final int sectionIndex = chunk.getSectionIndex(bottomY - 1);
+            final LevelChunkSection section = chunk.getSection(sectionIndex);
+            if(section.hasOnlyAir()) {
+                return bottomY;
+            }
+            final int sectionBottomY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+            for(int y = bottomY - 1; y >= sectionBottomY; y--) {
+                if(section.getBlockState(x, y & 15, z).getBlock() != block) {
+                    return bottomY;
+                }
+                bottomY = y;
+            }
+        }
+        return bottomY;
+    }
+}
@@ -1,10 +1,91 @@
 package org.dawnoftimebuilder.util;
 
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.properties.WallSide;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.dawnoftimebuilder.DawnOfTimeBuilder;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.dawnoftimebuilder.DawnOfTimeBuilder.MOD_ID;
 
 public class VoxelShapesBuilder {
+    private static final Comparator<AABB> BOX_ORDER = Comparator.<AABB>comparingDouble(box -> box.minX).thenComparingDouble(box -> box.minY).thenComparingDouble(box -> box.minZ)
+            .thenComparingDouble(box -> box.maxX).thenComparingDouble(box -> box.maxY).thenComparingDouble(box -> box.maxZ);
+    // Interned VoxelShapes, keyed by their sorted list of boxes. The vanilla empty and full shapes are kept as they are.
+    private static final Map<List<AABB>, VoxelShape> INTERNED_SHAPES = new ConcurrentHashMap<>(Map.of(
+            List.of(), Shapes.empty(),
+            List.of(Shapes.block().bounds()), Shapes.block()));
+    private static final AtomicInteger BUILT_SHAPES = new AtomicInteger();
+
+    /**
+     * Returns a shared VoxelShape made of the same boxes as the one passed, so that the identical shapes built for different
+     * blocks are only stored once.
+     * @param shape VoxelShape to intern.
+     * @return The first VoxelShape interned with these boxes.
+     */
+    public static VoxelShape intern(final VoxelShape shape) {
+        final List<AABB> boxes = shape.toAabbs();
+        boxes.sort(BOX_ORDER);
+        final VoxelShape internedShape = INTERNED_SHAPES.putIfAbsent(List.copyOf(boxes), shape);
+        // A shape that is already interned can be interned again without being counted twice.
+        if(internedShape != shape) {
+            BUILT_SHAPES.incrementAndGet();
+        }
+        return internedShape == null ? shape : internedShape;
+    }
+
+    /**
+     * Replaces each VoxelShape of the array by its interned version (see {@link #intern(VoxelShape)}).
+     * @param shapes Array of VoxelShapes, modified in place.
+     * @return The same array.
+     */
+    public static VoxelShape[] intern(final VoxelShape[] shapes) {
+        for(int i = 0; i < shapes.length; i++) {
+            shapes[i] = intern(shapes[i]);
+        }
+        return shapes;
+    }
+
+    /**
+     * Rotates the VoxelShape clockwise around the vertical axis passing through the center of the block, following the
+     * horizontal index order : south - west - north - east.<p/>
+     * Each box is rotated once, then all the rotated boxes are joined, and the result is optimized only at the end.
+     * @param shape VoxelShape to rotate. It is not modified.
+     * @param quarterTurns Number of clockwise quarter turns.
+     * @return The rotated VoxelShape, or the same VoxelShape if there is no rotation.
+     */
+    public static VoxelShape rotateHorizontally(final VoxelShape shape, final int quarterTurns) {
+        final int rotation = quarterTurns & 3;
+        if(rotation == 0 || shape.isEmpty()) {
+            return shape;
+        }
+        VoxelShape rotatedShape = Shapes.empty();
+        for(final AABB box : shape.toAabbs()) {
+            final VoxelShape rotatedBox = switch(rotation) {
+                case 1 -> Shapes.box(1.0D - box.maxZ, box.minY, box.minX, 1.0D - box.minZ, box.maxY, box.maxX);
+                case 2 -> Shapes.box(1.0D - box.maxX, box.minY, 1.0D - box.maxZ, 1.0D - box.minX, box.maxY, 1.0D - box.minZ);
+                default -> Shapes.box(box.minZ, box.minY, 1.0D - box.maxX, box.maxZ, box.maxY, 1.0D - box.minX);
+            };
+            rotatedShape = Shapes.joinUnoptimized(rotatedShape, rotatedBox, BooleanOp.OR);
+        }
+        return rotatedShape.optimize();
+    }
+
+    /**
+     * Logs how many VoxelShapes have been interned, and how many of them are unique.
+     */
+    public static void logInternedShapes() {
+        DawnOfTimeBuilder.LOG.info(MOD_ID + " : " + INTERNED_SHAPES.size() + " unique VoxelShapes out of " + BUILT_SHAPES.get() + " built.");
+    }
+
     /**
      * @return Stores VoxelShape with index : <p/>
      * {0 : NW Outer, 1 : N Default, 2 : NW Inner, 3 : NE Outer, 4 : N Default, 5 : NE Inner, 6 : SE Outer,
@@ -981,4 +1062,60 @@ public class VoxelShapesBuilder {
                         Block.box(5.0D, 2.0D, 5.0D, 11.0D, 11.0D, 11.0D),
                         Block.box(6.5D, 0.0D, 6.5D, 9.5D, 2.0D, 9.5D)));
     }
+
+    /**
+     * @return Stores the VoxelShapes of the capped walls, with the index given by
+     * {@link #getCappedWallShapeIndex(WallSide, WallSide, WallSide, WallSide, WallSide)}.
+     */
+    protected static VoxelShape[] makeCappedWallShapes(float sizePillarVertical, float sizeWallVertical) {
+        float sizePillarStart = 4.0F;
+        float sizePillarEnd = 12.0F;
+        float sizeWallStart = 5.0F;
+        float sizeWallEnd = 11.0F;
+        VoxelShape voxelshape = Block.box(sizePillarStart, 0.0D, sizePillarStart, sizePillarEnd, sizePillarVertical, sizePillarEnd);
+        VoxelShape voxelshape1 = Block.box(sizeWallStart, 0.0D, 0.0D, sizeWallEnd, sizeWallVertical, sizeWallEnd);
+        VoxelShape voxelshape2 = Block.box(sizeWallStart, 0.0D, sizeWallStart, sizeWallEnd, sizeWallVertical, 16.0D);
+        VoxelShape voxelshape3 = Block.box(0.0D, 0.0D, sizeWallStart, sizeWallEnd, sizeWallVertical, sizeWallEnd);
+        VoxelShape voxelshape4 = Block.box(sizeWallStart, 0.0D, sizeWallStart, 16.0D, sizeWallVertical, sizeWallEnd);
+        VoxelShape voxelshape5 = Block.box(sizeWallStart, 0.0D, 0.0D, sizeWallEnd, sizePillarVertical, sizeWallEnd);
+        VoxelShape voxelshape6 = Block.box(sizeWallStart, 0.0D, sizeWallStart, sizeWallEnd, sizePillarVertical, 16.0D);
+        VoxelShape voxelshape7 = Block.box(0.0D, 0.0D, sizeWallStart, sizeWallEnd, sizePillarVertical, sizeWallEnd);
+        VoxelShape voxelshape8 = Block.box(sizeWallStart, 0.0D, sizeWallStart, 16.0D, sizePillarVertical, sizeWallEnd);
+        final WallSide[] sides = WallSide.values();
+        final VoxelShape[] shapes = new VoxelShape[sides.length * sides.length * sides.length * sides.length * sides.length];
+
+        for(WallSide pillarState : sides) {
+            for(WallSide eastState : sides) {
+                for(WallSide northState : sides) {
+                    for(WallSide westState : sides) {
+                        for(WallSide southState : sides) {
+                            VoxelShape mainShape = Shapes.empty();
+                            mainShape = applyWallShape(mainShape, eastState, voxelshape4, voxelshape8);
+                            mainShape = applyWallShape(mainShape, westState, voxelshape3, voxelshape7);
+                            mainShape = applyWallShape(mainShape, northState, voxelshape1, voxelshape5);
+                            mainShape = applyWallShape(mainShape, southState, voxelshape2, voxelshape6);
+                            if(pillarState != WallSide.NONE) {
+                                mainShape = Shapes.or(mainShape, voxelshape);
+                            }
+                            shapes[getCappedWallShapeIndex(pillarState, eastState, northState, westState, southState)] = mainShape;
+                        }
+                    }
+                }
+            }
+        }
+        return shapes;
+    }
+
+    public static int getCappedWallShapeIndex(WallSide pillar, WallSide east, WallSide north, WallSide west, WallSide south) {
+        final int size = WallSide.values().length;
+        return (((pillar.ordinal() * size + east.ordinal()) * size + north.ordinal()) * size + west.ordinal()) * size + south.ordinal();
+    }
+
+    private static VoxelShape applyWallShape(VoxelShape mainShape, WallSide height, VoxelShape newShape, VoxelShape tallShape) {
+        if(height == WallSide.TALL) {
+            return Shapes.or(mainShape, tallShape);
+        } else {
+            return height == WallSide.LOW ? Shapes.or(mainShape, newShape) : mainShape;
+        }
+    }
 }
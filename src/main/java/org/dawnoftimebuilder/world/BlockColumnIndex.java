@@ -0,0 +1,165 @@
+package org.dawnoftimebuilder.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import org.dawnoftimebuilder.util.VerticalScan;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-level index of the vertical runs of a same block (columns, cypresses...), grouped by chunk. A run is found by a walk
+ * through the column the first time one of its cells is queried, then each of its cells answers the top and the length of
+ * the run with a single lookup. The blocks indexed must call {@link #invalidate(LevelAccessor, BlockPos)} when they are
+ * placed or removed, so that the runs around them are walked again on the next query.<p/>
+ * The blocks don't call onPlace or onRemove on the client side, so only the server levels are indexed : the client
+ * levels always walk the column.
+ */
+public final class BlockColumnIndex {
+    private static final Map<ServerLevel, BlockColumnIndex> INDEXES = new IdentityHashMap<>();
+
+    private final Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Run>> runsByChunk = new Long2ObjectOpenHashMap<>();
+
+    private BlockColumnIndex() {}
+
+    public static BlockColumnIndex get(final ServerLevel level) {
+        return INDEXES.computeIfAbsent(level, key -> new BlockColumnIndex());
+    }
+
+    public static void remove(final ServerLevel level) {
+        INDEXES.remove(level);
+    }
+
+    /**
+     * @param level World of the column.
+     * @param pos   Position of a block of the column.
+     * @param block Block of the column.
+     * @return The run of this block that contains this position.
+     */
+    public static Run getRun(final Level level, final BlockPos pos, final Block block) {
+        if(level instanceof ServerLevel serverLevel) {
+            return BlockColumnIndex.get(serverLevel).getOrBuildRun(level, pos, block);
+        }
+        return Run.build(level, pos, block);
+    }
+
+    /**
+     * @param level World of the column.
+     * @param pos   Position of a block of the column.
+     * @param block Block of the column.
+     * @return The position of the highest block of the run that contains this position.
+     */
+    public static BlockPos getTopPos(final Level level, final BlockPos pos, final Block block) {
+        final Run run = BlockColumnIndex.getRun(level, pos, block);
+        return run.getTopY() == pos.getY() ? pos : pos.atY(run.getTopY());
+    }
+
+    /**
+     * Drops the runs that contain this position or touch it from above or below.
+     *
+     * @param level World of the column.
+     * @param pos   Position of a block that has been placed or removed.
+     */
+    public static void invalidate(final LevelAccessor level, final BlockPos pos) {
+        if(level instanceof ServerLevel serverLevel) {
+            final BlockColumnIndex index = INDEXES.get(serverLevel);
+            if(index != null) {
+                index.invalidate(pos);
+            }
+        }
+    }
+
+    /**
+     * Drops the runs of this chunk. Does nothing if the level has no index, so that a chunk unloaded after its level doesn't
+     * register the level again.
+     *
+     * @param level    World of the chunk.
+     * @param chunkPos Position of the chunk that has been unloaded.
+     */
+    public static void unloadChunk(final ServerLevel level, final ChunkPos chunkPos) {
+        final BlockColumnIndex index = INDEXES.get(level);
+        if(index != null) {
+            index.runsByChunk.remove(chunkPos.toLong());
+        }
+    }
+
+    private Run getOrBuildRun(final Level level, final BlockPos pos, final Block block) {
+        final Long2ObjectOpenHashMap<Run> runs = this.runsByChunk.computeIfAbsent(ChunkPos.asLong(pos), key -> new Long2ObjectOpenHashMap<>());
+        Run run = runs.get(pos.asLong());
+        if(run == null || run.block != block) {
+            run = Run.build(level, pos, block);
+            if(run.getLength() > 0) {
+                this.unregister(runs, run.block, pos.getX(), pos.getZ(), run.bottomY, run.topY);
+                for(int y = run.bottomY; y <= run.topY; y++) {
+                    runs.put(BlockPos.asLong(pos.getX(), y, pos.getZ()), run);
+                }
+            }
+        }
+        return run;
+    }
+
+    private void invalidate(final BlockPos pos) {
+        final Long2ObjectOpenHashMap<Run> runs = this.runsByChunk.get(ChunkPos.asLong(pos));
+        if(runs != null) {
+            for(int y = pos.getY() - 1; y <= pos.getY() + 1; y++) {
+                final Run run = runs.get(BlockPos.asLong(pos.getX(), y, pos.getZ()));
+                if(run != null) {
+                    this.unregister(runs, run.block, pos.getX(), pos.getZ(), run.bottomY, run.topY);
+                }
+            }
+        }
+    }
+
+    private void unregister(final Long2ObjectOpenHashMap<Run> runs, final Block block, final int x, final int z, final int bottomY, final int topY) {
+        for(int y = bottomY; y <= topY; y++) {
+            final long cell = BlockPos.asLong(x, y, z);
+            final Run run = runs.get(cell);
+            if(run != null && run.block == block) {
+                runs.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * A vertical run of a same block, from its bottom cell to its top cell.
+     */
+    public static class Run {
+        private final Block block;
+        private final int bottomY;
+        private final int topY;
+
+        private Run(final Block block, final int bottomY, final int topY) {
+            this.block = block;
+            this.bottomY = bottomY;
+            this.topY = topY;
+        }
+
+        private static Run build(final Level level, final BlockPos pos, final Block block) {
+            final int topY = VerticalScan.getRunTopY(level, pos, block);
+            if(topY < pos.getY()) {
+                return new Run(block, pos.getY(), topY);
+            }
+            return new Run(block, VerticalScan.getRunBottomY(level, pos, block), topY);
+        }
+
+        public int getBottomY() {
+            return this.bottomY;
+        }
+
+        public int getTopY() {
+            return this.topY;
+        }
+
+        /**
+         * @return The number of blocks in the run, 0 if the queried position didn't contain the block.
+         */
+        public int getLength() {
+            return this.topY - this.bottomY + 1;
+        }
+    }
+}
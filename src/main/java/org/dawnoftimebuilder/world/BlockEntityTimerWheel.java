@@ -0,0 +1,106 @@
+package org.dawnoftimebuilder.world;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-level hashed timer wheel that wakes block entities at a given game time, so that they don't need a ticker while they
+ * are waiting. Each tick only looks at the timers stored in the slot of the current game time : a timer due in more than
+ * {@link #WHEEL_SIZE} ticks stays in its slot until the right round.<p/>
+ * The timers are not saved : the block entities must schedule them again when they are loaded, and the timers of the
+ * block entities that are unloaded meanwhile are dropped.
+ */
+public final class BlockEntityTimerWheel {
+    private static final int WHEEL_SIZE = 1024;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final Map<ServerLevel, BlockEntityTimerWheel> WHEELS = new IdentityHashMap<>();
+
+    private final LongArrayList[] positions = new LongArrayList[WHEEL_SIZE];
+    private final LongArrayList[] dueTimes = new LongArrayList[WHEEL_SIZE];
+    private final LongArrayList firedPositions = new LongArrayList();
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private long lastTick;
+
+    private BlockEntityTimerWheel(final long gameTime) {
+        for(int i = 0; i < WHEEL_SIZE; i++) {
+            this.positions[i] = new LongArrayList(0);
+            this.dueTimes[i] = new LongArrayList(0);
+        }
+        this.lastTick = gameTime;
+    }
+
+    public static BlockEntityTimerWheel get(final ServerLevel level) {
+        return WHEELS.computeIfAbsent(level, key -> new BlockEntityTimerWheel(key.getGameTime()));
+    }
+
+    public static void remove(final ServerLevel level) {
+        WHEELS.remove(level);
+    }
+
+    /**
+     * Wakes the block entity at this position on the given game time. If this time is already reached, it is woken on the
+     * next tick.
+     *
+     * @param pos     Position of a {@link TimedBlockEntity}.
+     * @param dueTime Game time at which the block entity is woken.
+     */
+    public void schedule(final BlockPos pos, final long dueTime) {
+        final long time = Math.max(dueTime, this.lastTick + 1);
+        final int slot = (int) (time & WHEEL_MASK);
+        this.positions[slot].add(pos.asLong());
+        this.dueTimes[slot].add(time);
+    }
+
+    public void tick(final ServerLevel level) {
+        final long gameTime = level.getGameTime();
+        // All the slots are visited once if the game time jumped by more than a round.
+        final long firstTick = Math.max(this.lastTick + 1, gameTime - WHEEL_MASK);
+        this.lastTick = gameTime;
+        for(long tick = firstTick; tick <= gameTime; tick++) {
+            final int slot = (int) (tick & WHEEL_MASK);
+            final LongArrayList slotPositions = this.positions[slot];
+            final LongArrayList slotDueTimes = this.dueTimes[slot];
+            int i = 0;
+            while(i < slotPositions.size()) {
+                if(slotDueTimes.getLong(i) <= gameTime) {
+                    this.firedPositions.add(slotPositions.getLong(i));
+                    // Swap with the last timer of the slot, since the order doesn't matter.
+                    final int last = slotPositions.size() - 1;
+                    slotPositions.set(i, slotPositions.getLong(last));
+                    slotDueTimes.set(i, slotDueTimes.getLong(last));
+                    slotPositions.removeLong(last);
+                    slotDueTimes.removeLong(last);
+                } else {
+                    i++;
+                }
+            }
+        }
+        // The block entities are woken after the slots are visited, since they may schedule new timers.
+        for(int i = 0; i < this.firedPositions.size(); i++) {
+            this.pos.set(this.firedPositions.getLong(i));
+            if(level.isLoaded(this.pos) && level.getBlockEntity(this.pos) instanceof TimedBlockEntity blockEntity) {
+                blockEntity.onTimer(level, gameTime);
+            }
+        }
+        this.firedPositions.clear();
+    }
+
+    /**
+     * A {@link BlockEntity} that can be woken by the {@link BlockEntityTimerWheel}.
+     */
+    public interface TimedBlockEntity {
+        /**
+         * Called at the game time requested with {@link BlockEntityTimerWheel#schedule(BlockPos, long)}, or later. The
+         * block entity may have been woken for an older timer : it must check the game time itself.
+         *
+         * @param level    World of the block entity.
+         * @param gameTime Current game time.
+         */
+        void onTimer(ServerLevel level, long gameTime);
+    }
+}
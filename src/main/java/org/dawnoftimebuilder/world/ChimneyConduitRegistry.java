@@ -0,0 +1,226 @@
+package org.dawnoftimebuilder.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.dawnoftimebuilder.block.templates.ChimneyBlockAA;
+import org.dawnoftimebuilder.block.templates.ConnectedVerticalBlock;
+import org.dawnoftimebuilder.block.templates.ConnectedVerticalSidedBlock;
+import org.dawnoftimebuilder.block.templates.ConnectedVerticalSidedPlanFireplaceBlock;
+import org.dawnoftimebuilder.util.BlockStatePropertiesAA.VerticalConnection;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-level registry of the conduits : a conduit is a row of {@link ConnectedVerticalSidedPlanFireplaceBlock} with all the
+ * stacks of {@link ChimneyBlockAA} built on top of it, or a chimney stack alone. The conduits are built the first time one
+ * of their blocks is lit or extinguished, and dropped when a fireplace or a chimney is placed or removed in or next to
+ * them, so the registry is not saved. They are also dropped when a chunk they cross or stop at is loaded or unloaded,
+ * since a conduit built while a part of it was unloaded is cut at the border of the unloaded chunk.<p/>
+ * Lighting or extinguishing any block of a conduit changes all of its hearths and chimneys in a single pass, without
+ * updating their neighbours.
+ */
+public final class ChimneyConduitRegistry {
+    private static final Map<LevelAccessor, ChimneyConduitRegistry> REGISTRIES = new IdentityHashMap<>();
+    // The blocks of a conduit are all updated in the same pass, so they don't need to update each other.
+    private static final int CONDUIT_UPDATE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+    // Bigger structures are split in several conduits, so that a single click can't update a whole area.
+    private static final int MAX_CELLS = 1024;
+
+    private final Long2ObjectOpenHashMap<Conduit> conduitByCell = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<ReferenceOpenHashSet<Conduit>> conduitsByChunk = new Long2ObjectOpenHashMap<>();
+
+    private ChimneyConduitRegistry() {}
+
+    public static ChimneyConduitRegistry get(final LevelAccessor level) {
+        return REGISTRIES.computeIfAbsent(level, key -> new ChimneyConduitRegistry());
+    }
+
+    public static void remove(final LevelAccessor level) {
+        REGISTRIES.remove(level);
+    }
+
+    /**
+     * Drops the conduits that cross this chunk or stop at its border. Does nothing if the level has no registry, so that a
+     * chunk unloaded after its level doesn't register the level again.
+     *
+     * @param level    World of the chunk.
+     * @param chunkPos Position of the chunk that has been loaded or unloaded.
+     */
+    public static void invalidateChunk(final LevelAccessor level, final ChunkPos chunkPos) {
+        final ChimneyConduitRegistry registry = REGISTRIES.get(level);
+        if(registry != null) {
+            final ReferenceOpenHashSet<Conduit> conduits = registry.conduitsByChunk.get(chunkPos.toLong());
+            if(conduits != null) {
+                for(Conduit conduit : conduits.toArray(new Conduit[0])) {
+                    registry.unregister(conduit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lights or extinguishes the whole conduit that contains this position.
+     *
+     * @param level World of the conduit.
+     * @param pos   Position of a fireplace or a chimney.
+     * @param lit   New LIT state of the conduit.
+     */
+    public void setLit(final Level level, final BlockPos pos, final boolean lit) {
+        Conduit conduit = this.conduitByCell.get(pos.asLong());
+        if(conduit == null) {
+            conduit = Conduit.build(level, pos);
+            for(int i = 0; i < conduit.cells.size(); i++) {
+                this.conduitByCell.put(conduit.cells.getLong(i), conduit);
+            }
+            for(LongIterator iterator = conduit.chunks.iterator(); iterator.hasNext(); ) {
+                this.conduitsByChunk.computeIfAbsent(iterator.nextLong(), key -> new ReferenceOpenHashSet<>()).add(conduit);
+            }
+        }
+        conduit.setLit(level, lit);
+    }
+
+    /**
+     * Drops the conduits that contain this position or one of its neighbours, since their shape may have changed.
+     *
+     * @param pos Position of a fireplace or a chimney that has been placed or removed.
+     */
+    public void invalidate(final BlockPos pos) {
+        this.unregister(this.conduitByCell.get(pos.asLong()));
+        for(Direction direction : Direction.values()) {
+            this.unregister(this.conduitByCell.get(pos.relative(direction).asLong()));
+        }
+    }
+
+    private void unregister(final Conduit conduit) {
+        if(conduit != null) {
+            for(int i = 0; i < conduit.cells.size(); i++) {
+                this.conduitByCell.remove(conduit.cells.getLong(i), conduit);
+            }
+            for(LongIterator iterator = conduit.chunks.iterator(); iterator.hasNext(); ) {
+                final long chunk = iterator.nextLong();
+                final ReferenceOpenHashSet<Conduit> conduits = this.conduitsByChunk.get(chunk);
+                if(conduits != null && conduits.remove(conduit) && conduits.isEmpty()) {
+                    this.conduitsByChunk.remove(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * The fireplaces and chimneys linked together, found once by a walk through the structure.
+     */
+    private static class Conduit {
+        private final LongArrayList cells = new LongArrayList();
+        // Bottom cells of the fireplaces : the only ones that burn.
+        private final LongArrayList hearths = new LongArrayList();
+        private final LongArrayList chimneys = new LongArrayList();
+        // Chunks of the cells, and unloaded chunks where the walk stopped.
+        private final LongOpenHashSet chunks = new LongOpenHashSet();
+
+        private static Conduit build(final Level level, final BlockPos start) {
+            final Conduit conduit = new Conduit();
+            final LongOpenHashSet visited = new LongOpenHashSet();
+            final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            visited.add(start.asLong());
+            queue.enqueue(start.asLong());
+            while(!queue.isEmpty() && conduit.cells.size() < MAX_CELLS) {
+                final long cell = queue.dequeueLong();
+                pos.set(cell);
+                final BlockState state = level.getBlockState(pos);
+                if(state.getBlock() instanceof ChimneyBlockAA) {
+                    conduit.addCell(pos);
+                    conduit.chimneys.add(cell);
+                    // A chimney leads to the chimney above it, and to the chimney or the fireplace under it.
+                    conduit.visit(level, pos, Direction.UP, false, visited, queue);
+                    conduit.visit(level, pos, Direction.DOWN, true, visited, queue);
+                } else if(state.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
+                    conduit.addCell(pos);
+                    final VerticalConnection connection = state.getValue(ConnectedVerticalBlock.VERTICAL_CONNECTION);
+                    if(connection == VerticalConnection.NONE || connection == VerticalConnection.ABOVE) {
+                        conduit.hearths.add(cell);
+                    }
+                    // A fireplace leads to the fireplace or the chimney above it, to the fireplace under it, and to the
+                    // fireplaces facing the same way on its sides.
+                    conduit.visit(level, pos, Direction.UP, true, visited, queue);
+                    conduit.visit(level, pos, Direction.DOWN, true, visited, queue);
+                    final Direction facing = state.getValue(ConnectedVerticalSidedBlock.FACING);
+                    conduit.visitSide(level, pos, facing, facing.getClockWise(), visited, queue);
+                    conduit.visitSide(level, pos, facing, facing.getCounterClockWise(), visited, queue);
+                }
+            }
+            return conduit;
+        }
+
+        private void addCell(final BlockPos pos) {
+            this.cells.add(pos.asLong());
+            this.chunks.add(ChunkPos.asLong(pos));
+        }
+
+        private void visit(final Level level, final BlockPos pos, final Direction direction, final boolean acceptFireplace, final LongOpenHashSet visited, final LongArrayFIFOQueue queue) {
+            final BlockPos nextPos = pos.relative(direction);
+            if(!visited.contains(nextPos.asLong()) && this.isLoaded(level, nextPos)) {
+                final Block block = level.getBlockState(nextPos).getBlock();
+                if(block instanceof ChimneyBlockAA || acceptFireplace && block instanceof ConnectedVerticalSidedPlanFireplaceBlock) {
+                    visited.add(nextPos.asLong());
+                    queue.enqueue(nextPos.asLong());
+                }
+            }
+        }
+
+        private void visitSide(final Level level, final BlockPos pos, final Direction facing, final Direction side, final LongOpenHashSet visited, final LongArrayFIFOQueue queue) {
+            final BlockPos nextPos = pos.relative(side);
+            if(!visited.contains(nextPos.asLong()) && this.isLoaded(level, nextPos)) {
+                final BlockState state = level.getBlockState(nextPos);
+                if(state.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock && state.getValue(ConnectedVerticalSidedBlock.FACING) == facing) {
+                    visited.add(nextPos.asLong());
+                    queue.enqueue(nextPos.asLong());
+                }
+            }
+        }
+
+        /**
+         * @return True if the walk can go to this position. If its chunk is unloaded, the conduit is cut there and must be
+         * built again once the chunk is loaded.
+         */
+        private boolean isLoaded(final Level level, final BlockPos pos) {
+            if(level.isLoaded(pos)) {
+                return true;
+            }
+            this.chunks.add(ChunkPos.asLong(pos));
+            return false;
+        }
+
+        private void setLit(final Level level, final boolean lit) {
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for(int i = 0; i < this.hearths.size(); i++) {
+                pos.set(this.hearths.getLong(i));
+                final BlockState state = level.getBlockState(pos);
+                // A waterlogged fireplace can't be lit.
+                if(state.getBlock() instanceof ConnectedVerticalSidedPlanFireplaceBlock && state.getValue(BlockStateProperties.LIT) != lit && !(lit && state.getValue(BlockStateProperties.WATERLOGGED))) {
+                    level.setBlock(pos, state.setValue(BlockStateProperties.LIT, lit), CONDUIT_UPDATE_FLAGS);
+                }
+            }
+            for(int i = 0; i < this.chimneys.size(); i++) {
+                pos.set(this.chimneys.getLong(i));
+                final BlockState state = level.getBlockState(pos);
+                if(state.getBlock() instanceof ChimneyBlockAA && state.getValue(BlockStateProperties.LIT) != lit) {
+                    level.setBlock(pos, state.setValue(BlockStateProperties.LIT, lit), CONDUIT_UPDATE_FLAGS);
+                }
+            }
+        }
+    }
+}
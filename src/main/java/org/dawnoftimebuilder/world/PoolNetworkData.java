@@ -0,0 +1,559 @@
+package org.dawnoftimebuilder.world;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.dawnoftimebuilder.DawnOfTimeBuilder;
+import org.dawnoftimebuilder.DoTBConfig;
+import org.dawnoftimebuilder.block.templates.FaucetBlock;
+import org.dawnoftimebuilder.block.templates.PoolBlock;
+import org.dawnoftimebuilder.util.BlockStatePropertiesAA;
+import org.dawnoftimebuilder.util.PoolTraversal;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Per-level registry of the connected pool basins. Each basin is stored as a {@link PoolComponent} that knows its members,
+ * its current level and the pools that have an activator (water trickle or activated faucet) above them.<p/>
+ * The registry is updated incrementally when pools are placed, removed or change level, so that the activator and level
+ * lookups done by {@link PoolBlock} do not need to walk the whole basin. Basins that are not known yet (old worlds, blocks
+ * placed while the registry was not saved...) are indexed from the world the first time they are queried.<p/>
+ * The registry also schedules the filling and draining of the basins : each step raises or lowers all the pools of a
+ * basin by one level in a single pass, instead of one scheduled tick per pool.
+ */
+public class PoolNetworkData extends SavedData {
+    private static final String DATA_NAME = DawnOfTimeBuilder.MOD_ID + "_pool_networks";
+    private static final Direction[] HORIZONTAL_DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+    // Delay between two steps of filling or draining, in ticks.
+    private static final int STEP_DELAY = 5;
+    // The changes are sent to the clients (batched by chunk section by the ChunkHolder), and the pools of the basin are not
+    // updated one by one since they are all changed in the same pass.
+    private static final int STEP_UPDATE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+
+    private final Long2ObjectOpenHashMap<PoolComponent> componentByPos = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> membersByChunk = new Long2ObjectOpenHashMap<>();
+    // One position per basin waiting for its next step, associated with the game time of this step. The position is a
+    // member of the basin, and is moved to another member if this pool is removed.
+    private final Long2LongOpenHashMap pendingSteps = new Long2LongOpenHashMap();
+
+    public static PoolNetworkData get(final ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(PoolNetworkData::load, PoolNetworkData::new, DATA_NAME);
+    }
+
+    /**
+     * @param level World where the pool is placed.
+     * @param pos   BlockPos of a pool.
+     *
+     * @return The component that contains this pool, indexed from the world if needed. Null if the block is not a pool.
+     */
+    @Nullable
+    public PoolComponent getComponent(final LevelAccessor level, final BlockPos pos) {
+        final PoolComponent component = this.componentByPos.get(pos.asLong());
+        if(component != null) {
+            return component;
+        }
+        if(!(level.getBlockState(pos).getBlock() instanceof PoolBlock)) {
+            return null;
+        }
+        return this.index(level, pos);
+    }
+
+    /**
+     * Checks if the pool at this position, or the basin that would be connected to a pool at this position, is fed by
+     * an activator.
+     *
+     * @param level World where the pool is placed.
+     * @param pos   BlockPos of the pool (or of the future pool during a placement).
+     *
+     * @return True if one of the pools of the basin has an activator above it.
+     */
+    public boolean hasActivatorAround(final LevelAccessor level, final BlockPos pos) {
+        final PoolComponent component = this.getComponent(level, pos);
+        if(component != null) {
+            return component.hasActivator();
+        }
+        if(PoolBlock.isPoolActivator(level.getBlockState(pos.above()))) {
+            return true;
+        }
+        for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+            final PoolComponent adjacentComponent = this.getComponent(level, pos.relative(direction));
+            if(adjacentComponent != null && adjacentComponent.hasActivator()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers a pool that has just been placed, or updates its level if it was already registered.
+     *
+     * @param level World where the pool is placed.
+     * @param pos   BlockPos of the pool.
+     * @param state New BlockState of the pool.
+     */
+    public void onPoolChanged(final LevelAccessor level, final BlockPos pos, final BlockState state) {
+        final long packedPos = pos.asLong();
+        final int poolLevel = state.getValue(BlockStatePropertiesAA.LEVEL);
+        PoolComponent component = this.componentByPos.get(packedPos);
+        if(component != null) {
+            component.setLevel(packedPos, poolLevel);
+            this.setDirty();
+            return;
+        }
+
+        // The adjacent basins that are unknown are indexed first. Their walk may reach this pool and register it.
+        final List<PoolComponent> adjacentComponents = new ArrayList<>(4);
+        for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+            final PoolComponent adjacentComponent = this.getComponent(level, pos.relative(direction));
+            if(adjacentComponent != null && !adjacentComponents.contains(adjacentComponent)) {
+                adjacentComponents.add(adjacentComponent);
+            }
+        }
+        // The pool joins the biggest basin that still has room, then the other basins are merged into it as long as the
+        // merged basin doesn't exceed DoTBConfig.POOL_MAX_BASIN_SIZE. The basins that don't fit stay separate.
+        final int maxSize = DoTBConfig.POOL_MAX_BASIN_SIZE.get();
+        component = this.componentByPos.get(packedPos);
+        if(component == null) {
+            for(final PoolComponent adjacentComponent : adjacentComponents) {
+                if(adjacentComponent.size() < maxSize && (component == null || adjacentComponent.size() > component.size())) {
+                    component = adjacentComponent;
+                }
+            }
+            if(component == null) {
+                component = new PoolComponent();
+            }
+            this.addMember(component, packedPos, poolLevel, PoolBlock.isPoolActivator(level.getBlockState(pos.above())));
+        }
+        for(final PoolComponent adjacentComponent : adjacentComponents) {
+            if(adjacentComponent != component) {
+                this.merge(component, adjacentComponent, maxSize);
+            }
+        }
+        this.setDirty();
+    }
+
+    /**
+     * Unregisters a pool that has just been removed. If the basin might have been split in several parts, the remaining
+     * parts are indexed again from the world.
+     *
+     * @param level World where the pool was placed.
+     * @param pos   BlockPos of the removed pool.
+     */
+    public void onPoolRemoved(final LevelAccessor level, final BlockPos pos) {
+        final long packedPos = pos.asLong();
+        final PoolComponent component = this.componentByPos.get(packedPos);
+        if(component == null) {
+            return;
+        }
+        // The pending step of the basin is taken back, then given to what remains of the basin.
+        final long stepTime = component.scheduled ? this.pendingSteps.remove(component.stepPos) : 0L;
+        final boolean scheduled = component.scheduled;
+        component.scheduled = false;
+        this.removeMember(component, packedPos);
+        int adjacentMembers = 0;
+        for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+            if(this.componentByPos.get(pos.relative(direction).asLong()) == component) {
+                adjacentMembers++;
+            }
+        }
+        if(adjacentMembers > 1) {
+            this.dissolve(component);
+            for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+                final BlockPos adjacentPos = pos.relative(direction);
+                final PoolComponent adjacentComponent = this.getComponent(level, adjacentPos);
+                if(scheduled && adjacentComponent != null && !adjacentComponent.scheduled) {
+                    this.schedule(adjacentComponent, adjacentPos.asLong(), stepTime);
+                }
+            }
+        } else if(scheduled && component.size() > 0) {
+            this.schedule(component, component.members.iterator().nextLong(), stepTime);
+        }
+        this.setDirty();
+    }
+
+    /**
+     * Updates the activator flag of a registered pool, after the block above it changed.
+     *
+     * @param pos       BlockPos of the pool.
+     * @param activated True if the block above the pool is now an activator.
+     */
+    public void updateActivator(final BlockPos pos, final boolean activated) {
+        final long packedPos = pos.asLong();
+        final PoolComponent component = this.componentByPos.get(packedPos);
+        if(component != null && (activated ? component.activators.add(packedPos) : component.activators.remove(packedPos))) {
+            this.setDirty();
+        }
+    }
+
+    /**
+     * Schedules the next filling or draining step of the basin that contains this pool. Does nothing if the basin already
+     * has a step scheduled.
+     *
+     * @param level World where the pool is placed.
+     * @param pos   BlockPos of the pool.
+     */
+    public void scheduleStep(final ServerLevel level, final BlockPos pos) {
+        final PoolComponent component = this.getComponent(level, pos);
+        if(component != null && !component.scheduled) {
+            this.schedule(component, pos.asLong(), level.getGameTime() + STEP_DELAY);
+            this.setDirty();
+        }
+    }
+
+    private void schedule(final PoolComponent component, final long packedPos, final long stepTime) {
+        component.scheduled = true;
+        component.stepPos = packedPos;
+        this.pendingSteps.put(packedPos, stepTime);
+    }
+
+    /**
+     * Called at the end of each server tick of the level : executes the steps that are due. A basin with an activator
+     * rises by one level, a basin without activator lowers by one level. The basin is scheduled again until it stops changing.
+     *
+     * @param level World ticked.
+     */
+    public void tick(final ServerLevel level) {
+        if(this.pendingSteps.isEmpty()) {
+            return;
+        }
+        final long gameTime = level.getGameTime();
+        final LongArrayList duePositions = new LongArrayList();
+        for(final Long2LongMap.Entry entry : this.pendingSteps.long2LongEntrySet()) {
+            if(entry.getLongValue() <= gameTime) {
+                duePositions.add(entry.getLongKey());
+            }
+        }
+        if(duePositions.isEmpty()) {
+            return;
+        }
+        final ReferenceOpenHashSet<PoolComponent> steppedComponents = new ReferenceOpenHashSet<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for(int i = 0; i < duePositions.size(); i++) {
+            final long packedPos = duePositions.getLong(i);
+            this.pendingSteps.remove(packedPos);
+            pos.set(packedPos);
+            // Basins in chunks that are not ticking wait for the chunk to be ticked again.
+            if(!level.shouldTickBlocksAt(pos)) {
+                this.pendingSteps.put(packedPos, gameTime + STEP_DELAY);
+                continue;
+            }
+            final PoolComponent component = this.getComponent(level, pos);
+            // A step left by a basin that has been merged into another scheduled basin is dropped.
+            if(component == null || component.scheduled && component.stepPos != packedPos || !steppedComponents.add(component)) {
+                continue;
+            }
+            component.scheduled = false;
+            final boolean increase = component.hasActivator();
+            if(this.applyLevels(level, component, increase ? (poolLevel, maxLevel) -> Math.min(poolLevel + 1, maxLevel) : (poolLevel, maxLevel) -> Math.max(poolLevel - 1, 0))) {
+                this.schedule(component, packedPos, gameTime + STEP_DELAY);
+            }
+        }
+        this.setDirty();
+    }
+
+    /**
+     * Removes all the water of the basin that contains this pool, and deactivates the faucets connected to it.
+     *
+     * @param level World where the pool is placed.
+     * @param pos   BlockPos of the pool.
+     *
+     * @return True if at least one pool contained water.
+     */
+    public boolean drain(final ServerLevel level, final BlockPos pos) {
+        final PoolComponent component = this.getComponent(level, pos);
+        if(component == null) {
+            return false;
+        }
+        final boolean success = component.getLevel() > 0;
+        this.applyLevels(level, component, (poolLevel, maxLevel) -> 0);
+        final long[] members = component.members.toLongArray();
+        final BlockPos.MutableBlockPos memberPos = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos adjacentPos = new BlockPos.MutableBlockPos();
+        for(final long packedPos : members) {
+            memberPos.set(packedPos);
+            for(final Direction direction : HORIZONTAL_DIRECTIONS) {
+                adjacentPos.setWithOffset(memberPos, direction);
+                final BlockState adjacentState = level.getBlockState(adjacentPos);
+                if(adjacentState.getBlock() instanceof FaucetBlock && adjacentState.getValue(BlockStatePropertiesAA.ACTIVATED)) {
+                    level.setBlock(adjacentPos, adjacentState.setValue(BlockStatePropertiesAA.ACTIVATED, false), 10);
+                }
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Changes the level of all the pools of the basin in a single pass. Only the blocks around the basin receive a shape
+     * update, so that faucets and water jets can react to the new level.
+     *
+     * @param level         World where the basin is placed.
+     * @param component     Basin to update.
+     * @param levelOperator Function that gives the new level of a pool from its current level and its max level.
+     *
+     * @return True if at least one pool changed.
+     */
+    private boolean applyLevels(final ServerLevel level, final PoolComponent component, final IntBinaryOperator levelOperator) {
+        final long[] members = component.members.toLongArray();
+        final LongArrayList changedPositions = new LongArrayList();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for(final long packedPos : members) {
+            pos.set(packedPos);
+            if(!level.isLoaded(pos)) {
+                continue;
+            }
+            final BlockState state = level.getBlockState(pos);
+            if(state.getBlock() instanceof PoolBlock pool) {
+                final int poolLevel = state.getValue(BlockStatePropertiesAA.LEVEL);
+                final int newLevel = levelOperator.applyAsInt(poolLevel, pool.maxLevel);
+                if(newLevel != poolLevel) {
+                    level.setBlock(pos, state.setValue(BlockStatePropertiesAA.LEVEL, newLevel), STEP_UPDATE_FLAGS);
+                    changedPositions.add(packedPos);
+                }
+            }
+        }
+        final BlockPos.MutableBlockPos adjacentPos = new BlockPos.MutableBlockPos();
+        for(int i = 0; i < changedPositions.size(); i++) {
+            pos.set(changedPositions.getLong(i));
+            final BlockState state = level.getBlockState(pos);
+            for(final Direction direction : Direction.values()) {
+                adjacentPos.setWithOffset(pos, direction);
+                if(!component.members.contains(adjacentPos.asLong())) {
+                    level.neighborShapeChanged(direction.getOpposite(), state, adjacentPos, pos, Block.UPDATE_CLIENTS, 512);
+                }
+            }
+        }
+        return !changedPositions.isEmpty();
+    }
+
+    /**
+     * Walks the basin connected to this position in the world, and registers it as a single component. The pools that
+     * already belong to another component are left to it and are not crossed, so that the pools beyond a full basin don't
+     * take its members back and forth. The basin is limited to DoTBConfig.POOL_MAX_BASIN_SIZE pools.
+     */
+    private PoolComponent index(final LevelAccessor level, final BlockPos startPos) {
+        final PoolComponent component = new PoolComponent();
+        final BlockPos.MutableBlockPos abovePos = new BlockPos.MutableBlockPos();
+        PoolTraversal.walk(level, startPos, packedPos -> !this.componentByPos.containsKey(packedPos), (packedPos, state) -> {
+            if(state.getBlock() instanceof PoolBlock && !this.componentByPos.containsKey(packedPos)) {
+                this.addMember(component, packedPos, state.getValue(BlockStatePropertiesAA.LEVEL), PoolBlock.isPoolActivator(level.getBlockState(abovePos.set(packedPos).move(Direction.UP))));
+            }
+            return true;
+        });
+        this.setDirty();
+        return component;
+    }
+
+    /**
+     * Moves all the members of a component into another one. Does nothing if the merged basin would be bigger than the limit.
+     */
+    private void merge(final PoolComponent into, final PoolComponent from, final int maxSize) {
+        if(into.size() + from.size() > maxSize) {
+            return;
+        }
+        // The merged basin keeps a single pending step.
+        if(from.scheduled) {
+            if(into.scheduled) {
+                this.pendingSteps.remove(from.stepPos);
+            } else {
+                into.scheduled = true;
+                into.stepPos = from.stepPos;
+            }
+            from.scheduled = false;
+        }
+        for(int poolLevel = 0; poolLevel < from.levelCounts.length; poolLevel++) {
+            into.levelCounts[poolLevel] += from.levelCounts[poolLevel];
+        }
+        into.activators.addAll(from.activators);
+        into.levels.putAll(from.levels);
+        final LongIterator iterator = from.members.iterator();
+        while(iterator.hasNext()) {
+            final long packedPos = iterator.nextLong();
+            into.members.add(packedPos);
+            this.componentByPos.put(packedPos, into);
+        }
+    }
+
+    private void dissolve(final PoolComponent component) {
+        final LongIterator iterator = component.members.iterator();
+        while(iterator.hasNext()) {
+            final long packedPos = iterator.nextLong();
+            this.componentByPos.remove(packedPos);
+            this.removeFromChunk(packedPos);
+        }
+    }
+
+    private void addMember(final PoolComponent component, final long packedPos, final int poolLevel, final boolean activated) {
+        component.members.add(packedPos);
+        component.levels.put(packedPos, poolLevel);
+        component.levelCounts[poolLevel]++;
+        if(activated) {
+            component.activators.add(packedPos);
+        }
+        this.componentByPos.put(packedPos, component);
+        this.membersByChunk.computeIfAbsent(ChunkPos.asLong(BlockPos.getX(packedPos) >> 4, BlockPos.getZ(packedPos) >> 4), chunk -> new LongOpenHashSet()).add(packedPos);
+    }
+
+    private void removeMember(final PoolComponent component, final long packedPos) {
+        component.members.remove(packedPos);
+        component.activators.remove(packedPos);
+        component.levelCounts[component.levels.remove(packedPos)]--;
+        this.componentByPos.remove(packedPos);
+        this.removeFromChunk(packedPos);
+    }
+
+    private void removeFromChunk(final long packedPos) {
+        final long chunkPos = ChunkPos.asLong(BlockPos.getX(packedPos) >> 4, BlockPos.getZ(packedPos) >> 4);
+        final LongOpenHashSet chunkMembers = this.membersByChunk.get(chunkPos);
+        if(chunkMembers != null && chunkMembers.remove(packedPos) && chunkMembers.isEmpty()) {
+            this.membersByChunk.remove(chunkPos);
+        }
+    }
+
+    /**
+     * The pools are saved per chunk, each pool referencing the index of its component in the "components" list.
+     */
+    @Override
+    public CompoundTag save(final CompoundTag tag) {
+        final Reference2IntOpenHashMap<PoolComponent> ids = new Reference2IntOpenHashMap<>();
+        final ListTag componentsTag = new ListTag();
+        final ListTag chunksTag = new ListTag();
+        for(final Long2ObjectMap.Entry<LongOpenHashSet> entry : this.membersByChunk.long2ObjectEntrySet()) {
+            final long[] pools = entry.getValue().toLongArray();
+            final int[] components = new int[pools.length];
+            final int[] levels = new int[pools.length];
+            for(int i = 0; i < pools.length; i++) {
+                final PoolComponent component = this.componentByPos.get(pools[i]);
+                if(!ids.containsKey(component)) {
+                    ids.put(component, ids.size());
+                    final CompoundTag componentTag = new CompoundTag();
+                    componentTag.put("activators", new LongArrayTag(component.activators.toLongArray()));
+                    componentsTag.add(componentTag);
+                }
+                components[i] = ids.getInt(component);
+                levels[i] = component.levels.get(pools[i]);
+            }
+            final CompoundTag chunkTag = new CompoundTag();
+            chunkTag.putLong("pos", entry.getLongKey());
+            chunkTag.putLongArray("pools", pools);
+            chunkTag.putIntArray("components", components);
+            chunkTag.putIntArray("levels", levels);
+            chunksTag.add(chunkTag);
+        }
+        tag.put("components", componentsTag);
+        tag.put("chunks", chunksTag);
+        tag.putLongArray("pendingPositions", this.pendingSteps.keySet().toLongArray());
+        tag.putLongArray("pendingTimes", this.pendingSteps.values().toLongArray());
+        return tag;
+    }
+
+    public static PoolNetworkData load(final CompoundTag tag) {
+        final PoolNetworkData data = new PoolNetworkData();
+        final ListTag componentsTag = tag.getList("components", Tag.TAG_COMPOUND);
+        final PoolComponent[] components = new PoolComponent[componentsTag.size()];
+        for(int i = 0; i < components.length; i++) {
+            components[i] = new PoolComponent();
+        }
+        final ListTag chunksTag = tag.getList("chunks", Tag.TAG_COMPOUND);
+        for(int i = 0; i < chunksTag.size(); i++) {
+            final CompoundTag chunkTag = chunksTag.getCompound(i);
+            final long[] pools = chunkTag.getLongArray("pools");
+            final int[] componentIds = chunkTag.getIntArray("components");
+            final int[] levels = chunkTag.getIntArray("levels");
+            for(int j = 0; j < pools.length && j < componentIds.length && j < levels.length; j++) {
+                if(componentIds[j] >= 0 && componentIds[j] < components.length) {
+                    data.addMember(components[componentIds[j]], pools[j], levels[j], false);
+                }
+            }
+        }
+        // Activators are restored once all the members are known, so that only registered pools are kept.
+        for(int i = 0; i < components.length; i++) {
+            for(final long packedPos : componentsTag.getCompound(i).getLongArray("activators")) {
+                if(components[i].members.contains(packedPos)) {
+                    components[i].activators.add(packedPos);
+                }
+            }
+        }
+        final long[] pendingPositions = tag.getLongArray("pendingPositions");
+        final long[] pendingTimes = tag.getLongArray("pendingTimes");
+        for(int i = 0; i < pendingPositions.length && i < pendingTimes.length; i++) {
+            data.pendingSteps.put(pendingPositions[i], pendingTimes[i]);
+            final PoolComponent component = data.componentByPos.get(pendingPositions[i]);
+            if(component != null) {
+                component.scheduled = true;
+                component.stepPos = pendingPositions[i];
+            }
+        }
+        return data;
+    }
+
+    /**
+     * A connected basin of pools.
+     */
+    public static final class PoolComponent {
+        private final LongOpenHashSet members = new LongOpenHashSet();
+        private final LongOpenHashSet activators = new LongOpenHashSet();
+        private final Long2IntOpenHashMap levels = new Long2IntOpenHashMap();
+        // Number of pools for each possible value of BlockStatePropertiesAA.LEVEL (0 to 16).
+        private final int[] levelCounts = new int[17];
+        private boolean scheduled;
+        // Key of the pending step of this basin in pendingSteps, when it is scheduled.
+        private long stepPos;
+
+        /**
+         * @return True if at least one pool of this basin has a water trickle or an activated faucet above it.
+         */
+        public boolean hasActivator() {
+            return !this.activators.isEmpty();
+        }
+
+        /**
+         * @return The highest water level of the pools of this basin.
+         */
+        public int getLevel() {
+            for(int poolLevel = this.levelCounts.length - 1; poolLevel > 0; poolLevel--) {
+                if(this.levelCounts[poolLevel] > 0) {
+                    return poolLevel;
+                }
+            }
+            return 0;
+        }
+
+        public int size() {
+            return this.members.size();
+        }
+
+        public LongSet getMembers() {
+            return LongSets.unmodifiable(this.members);
+        }
+
+        private void setLevel(final long packedPos, final int poolLevel) {
+            final int oldLevel = this.levels.put(packedPos, poolLevel);
+            this.levelCounts[oldLevel]--;
+            this.levelCounts[poolLevel]++;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package org.dawnoftimebuilder.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import org.dawnoftimebuilder.DoTBConfig;
+import org.dawnoftimebuilder.block.templates.PortcullisBlock;
+
+import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Per-level registry of the portcullis gates, indexed by the cells of their top row (the ones that receive the redstone
+ * power). The gates are built by {@link PortcullisBlock} the first time one of their top cells is powered, and dropped when
+ * a portcullis is placed or removed in or around them, so the registry is not saved.<p/>
+ * The registry also animates the gates : they open from the bottom row to the top one, and close from the top row to the
+ * bottom one, one row every {@link DoTBConfig#PORTCULLIS_ROW_DELAY} ticks. All the cells of a row are changed in the same
+ * tick without updating their neighbours, so the clients receive a single packet per chunk section and per row.
+ */
+public final class PortcullisGateRegistry {
+    private static final Map<LevelAccessor, PortcullisGateRegistry> REGISTRIES = new IdentityHashMap<>();
+
+    private final Long2ObjectOpenHashMap<Gate> gateByTopCell = new Long2ObjectOpenHashMap<>();
+    private final ReferenceOpenHashSet<Gate> gates = new ReferenceOpenHashSet<>();
+    private final ReferenceOpenHashSet<Gate> animatedGates = new ReferenceOpenHashSet<>();
+
+    private PortcullisGateRegistry() {}
+
+    public static PortcullisGateRegistry get(final LevelAccessor level) {
+        return REGISTRIES.computeIfAbsent(level, key -> new PortcullisGateRegistry());
+    }
+
+    public static void remove(final LevelAccessor level) {
+        REGISTRIES.remove(level);
+    }
+
+    /**
+     * @param topPos Position of a cell of the top row of a gate.
+     * @return The gate registered for this cell, or null if it is unknown.
+     */
+    @Nullable
+    public Gate getGate(final BlockPos topPos) {
+        return this.gateByTopCell.get(topPos.asLong());
+    }
+
+    public void register(final Gate gate) {
+        this.gates.add(gate);
+        for(int i = 0; i < gate.width; i++) {
+            final Gate oldGate = this.gateByTopCell.put(gate.start.relative(gate.direction, i).asLong(), gate);
+            if(oldGate != null && oldGate != gate) {
+                this.unregister(oldGate);
+            }
+        }
+    }
+
+    /**
+     * Drops the gates that contain this position or have it on their border, since their shape may have changed. The
+     * gates that were moving are finished at once.
+     *
+     * @param level World of the gates.
+     * @param pos   Position of a portcullis that has been placed or removed.
+     */
+    public void invalidate(final Level level, final BlockPos pos) {
+        final Iterator<Gate> iterator = this.gates.iterator();
+        while(iterator.hasNext()) {
+            final Gate gate = iterator.next();
+            if(gate.isAround(pos)) {
+                iterator.remove();
+                this.removeTopCells(gate);
+                if(this.animatedGates.remove(gate)) {
+                    while(gate.step(level)) {
+                        // The remaining rows are changed at once.
+                    }
+                }
+            }
+        }
+    }
+
+    private void unregister(final Gate gate) {
+        this.gates.remove(gate);
+        this.removeTopCells(gate);
+        this.animatedGates.remove(gate);
+    }
+
+    /**
+     * Starts to open or close the gate. If the gate was already moving, it continues from its current row.
+     *
+     * @param level World of the gate.
+     * @param gate  Registered gate.
+     * @param open  True to open the gate, false to close it.
+     */
+    public void animate(final Level level, final Gate gate, final boolean open) {
+        if(gate.open == null) {
+            // The state of the cells is unknown : all the rows are checked.
+            gate.openedRows = open ? 0 : gate.height;
+        }
+        gate.open = open;
+        gate.soundPlayed = false;
+        final int delay = DoTBConfig.PORTCULLIS_ROW_DELAY.get();
+        if(delay == 0) {
+            while(gate.step(level)) {
+                // All the rows are changed at once.
+            }
+            this.animatedGates.remove(gate);
+        } else if(gate.step(level)) {
+            gate.nextStepTime = level.getGameTime() + delay;
+            this.animatedGates.add(gate);
+        } else {
+            this.animatedGates.remove(gate);
+        }
+    }
+
+    public void tick(final ServerLevel level) {
+        if(this.animatedGates.isEmpty()) {
+            return;
+        }
+        final long gameTime = level.getGameTime();
+        final Iterator<Gate> iterator = this.animatedGates.iterator();
+        while(iterator.hasNext()) {
+            final Gate gate = iterator.next();
+            if(gate.nextStepTime <= gameTime) {
+                if(gate.step(level)) {
+                    gate.nextStepTime = gameTime + DoTBConfig.PORTCULLIS_ROW_DELAY.get();
+                } else {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void removeTopCells(final Gate gate) {
+        for(int i = 0; i < gate.width; i++) {
+            this.gateByTopCell.remove(gate.start.relative(gate.direction, i).asLong(), gate);
+        }
+    }
+
+    /**
+     * A rectangle of portcullis sharing the same axis, from its top row to its bottom row.
+     */
+    public static class Gate {
+        private final BlockPos start;
+        private final Direction direction;
+        private final int width;
+        private final int height;
+        private final boolean complete;
+        private int poweredCells;
+        // Null until the state of the gate is written once, since its cells may not be all in the same state.
+        @Nullable
+        private Boolean open;
+        // Number of rows in the open state, counted from the bottom one.
+        private int openedRows;
+        private long nextStepTime;
+        private boolean soundPlayed;
+
+        /**
+         * @param start        Top cell at one end of the gate.
+         * @param direction    Horizontal direction from the start to the other cells of the top row.
+         * @param width        Number of cells in a row.
+         * @param height       Number of cells in a column.
+         * @param complete     False if the gate is not a closed rectangle, or is too big : it can't be opened.
+         * @param poweredCells Number of top cells that are powered.
+         */
+        public Gate(final BlockPos start, final Direction direction, final int width, final int height, final boolean complete, final int poweredCells) {
+            this.start = start.immutable();
+            this.direction = direction;
+            this.width = width;
+            this.height = height;
+            this.complete = complete;
+            this.poweredCells = poweredCells;
+        }
+
+        /**
+         * Changes the next row that is not in the state of the gate yet. The rows already in this state are skipped.
+         *
+         * @return True if some rows still need to be changed.
+         */
+        private boolean step(final Level level) {
+            final boolean openState = Boolean.TRUE.equals(this.open);
+            while(openState ? this.openedRows < this.height : this.openedRows > 0) {
+                final int row = openState ? this.height - 1 - this.openedRows : this.height - this.openedRows;
+                this.openedRows += openState ? 1 : -1;
+                if(PortcullisBlock.setRowOpenState(level, this, row, openState, !this.soundPlayed)) {
+                    this.soundPlayed = true;
+                    break;
+                }
+            }
+            return openState ? this.openedRows < this.height : this.openedRows > 0;
+        }
+
+        private boolean isAround(final BlockPos pos) {
+            final int along = this.direction.getAxis() == Direction.Axis.X ? (pos.getX() - this.start.getX()) * this.direction.getStepX() : (pos.getZ() - this.start.getZ()) * this.direction.getStepZ();
+            final int across = this.direction.getAxis() == Direction.Axis.X ? pos.getZ() - this.start.getZ() : pos.getX() - this.start.getX();
+            final int below = this.start.getY() - pos.getY();
+            return across == 0 && along >= -1 && along <= this.width && below >= -1 && below <= this.height;
+        }
+
+        public BlockPos getStart() {
+            return this.start;
+        }
+
+        public Direction getDirection() {
+            return this.direction;
+        }
+
+        public int getWidth() {
+            return this.width;
+        }
+
+        public int getHeight() {
+            return this.height;
+        }
+
+        public boolean isComplete() {
+            return this.complete;
+        }
+
+        /**
+         * @return True if the gate must be open : it is complete and at least one of its top cells is powered.
+         */
+        public boolean shouldBeOpen() {
+            return this.complete && this.poweredCells > 0;
+        }
+
+        public void addPoweredCells(final int count) {
+            this.poweredCells = Math.max(0, this.poweredCells + count);
+        }
+
+        @Nullable
+        public Boolean isOpen() {
+            return this.open;
+        }
+
+    }
+}
@@ -0,0 +1,76 @@
+package org.dawnoftimebuilder.world;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import org.dawnoftimebuilder.block.templates.DryerBlock;
+import org.dawnoftimebuilder.blockentity.DisplayerBlockEntity;
+import org.dawnoftimebuilder.blockentity.DryerBlockEntity;
+import org.dawnoftimebuilder.registry.DoTBBlocksRegistry;
+
+/**
+ * Scene used to measure the rendering of the dryers and the displayers, built by the command "/dotb_render_scene size".
+ * It is a square of size x size blocks next to the player, with alternating rows of dryers and displayers whose slots are
+ * all filled. The frame rate is then measured with the client command "/dotb_fps seconds" of
+ * {@link org.dawnoftimebuilder.client.FrameTimeSampler}, with and without the LOD of the renderers.<p/>
+ * The command is only registered in the development runs.
+ */
+public final class RenderBenchmarkScene {
+    private static final int MAX_SIZE = 128;
+
+    private RenderBenchmarkScene() {}
+
+    public static void register(final CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("dotb_render_scene")
+                .requires(source -> source.hasPermission(2))
+                .then(Commands.argument("size", IntegerArgumentType.integer(1, MAX_SIZE))
+                        .executes(context -> build(context.getSource(), IntegerArgumentType.getInteger(context, "size")))));
+    }
+
+    private static int build(final CommandSourceStack source, final int size) {
+        final ServerLevel level = source.getLevel();
+        // The scene starts 2 blocks east of the player, centered on the player along the Z axis.
+        final BlockPos origin = BlockPos.containing(source.getPosition()).offset(2, 0, -size / 2);
+        final BlockState dryerState = DoTBBlocksRegistry.BAMBOO_DRYING_TRAY.get().defaultBlockState().setValue(DryerBlock.SIZE, 1);
+        final BlockState displayerState = DoTBBlocksRegistry.SPRUCE_LOW_TABLE.get().defaultBlockState();
+        // Flat items, block items and an animated item, so that each path of the renderers is used.
+        final ItemStack[] items = {new ItemStack(Items.KELP), new ItemStack(Items.APPLE), new ItemStack(Items.OAK_LOG),
+                new ItemStack(Items.COMPASS), new ItemStack(Items.LANTERN), new ItemStack(Items.IRON_INGOT)};
+        int filledBlocks = 0;
+        for(int x = 0; x < size; x++) {
+            for(int z = 0; z < size; z++) {
+                final BlockPos pos = origin.offset(x, 0, z);
+                final boolean dryerRow = (z & 1) == 0;
+                level.setBlock(pos, dryerRow ? dryerState : displayerState, Block.UPDATE_ALL);
+                if(level.getBlockEntity(pos) instanceof DryerBlockEntity dryer) {
+                    final IItemHandlerModifiable slots = (IItemHandlerModifiable) dryer.getItemHandler();
+                    for(int slot = 0; slot < slots.getSlots(); slot++) {
+                        slots.setStackInSlot(slot, items[(x + slot) % items.length].copy());
+                    }
+                    filledBlocks++;
+                } else if(level.getBlockEntity(pos) instanceof DisplayerBlockEntity displayer) {
+                    final int offset = x;
+                    displayer.getCapability(ForgeCapabilities.ITEM_HANDLER).ifPresent(handler -> {
+                        for(int slot = 0; slot < handler.getSlots(); slot++) {
+                            ((IItemHandlerModifiable) handler).setStackInSlot(slot, items[(offset + slot) % items.length].copy());
+                        }
+                    });
+                    filledBlocks++;
+                }
+            }
+        }
+        final int count = filledBlocks;
+        source.sendSuccess(() -> Component.literal("Built a render scene of " + count + " dryers and displayers"), true);
+        return count;
+    }
+}
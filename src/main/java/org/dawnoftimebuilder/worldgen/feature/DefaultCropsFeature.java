@@ -13,6 +13,7 @@ import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
 import net.minecraft.world.level.levelgen.feature.configurations.RandomPatchConfiguration;
 import net.minecraft.world.level.levelgen.feature.configurations.SimpleBlockConfiguration;
+import org.dawnoftimebuilder.util.VerticalScan;
 
 public class DefaultCropsFeature extends Feature<RandomPatchConfiguration> {
     public DefaultCropsFeature(Codec<RandomPatchConfiguration> pCodec) {
@@ -33,20 +34,22 @@ public class DefaultCropsFeature extends Feature<RandomPatchConfiguration> {
             return false;
 
         BlockState state = ((SimpleBlockConfiguration) featureConfig).toPlace().getState(random, pos);
+        // The crops need a free block above them.
+        final int maxY = VerticalScan.getMaxY(level) - 1;
         int i = 0;
 
         for(int j = 0; j < config.tries(); ++j) {
             BlockPos blockpos = this.getPos(random, pos, config);
             if(state.getBlock() instanceof SimpleWaterloggedBlock) {
                 if(level.getBlockState(blockpos).is(Blocks.WATER)){
-                    if(blockpos.getY() < 255 && state.canSurvive(level, blockpos)) {
+                    if(blockpos.getY() >= level.getMinBuildHeight() && blockpos.getY() <= maxY && state.canSurvive(level, blockpos)) {
                         config.feature().value().place(level, generator, random, blockpos);
                         ++i;
                     }
                 }
             } else {
                 if(level.isEmptyBlock(blockpos)) {
-                    if(blockpos.getY() < 255 && state.canSurvive(level, blockpos)) {
+                    if(blockpos.getY() >= level.getMinBuildHeight() && blockpos.getY() <= maxY && state.canSurvive(level, blockpos)) {
                         config.feature().value().place(level, generator, random, blockpos);
                         ++i;
                     }
@@ -0,0 +1,44 @@
+package org.dawnoftimebuilder;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.biome.*;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+
+/**
+ * Chunks of any build height for the tests and the benchmarks, that don't need a level. {@link VanillaBootstrap#init()}
+ * must have been called before.
+ */
+public final class TestChunks {
+    private TestChunks() {}
+
+    /**
+     * @param minY   Lowest Y of the chunk.
+     * @param height Number of blocks between the lowest and the highest Y of the chunk, a multiple of 16.
+     * @return An empty chunk at the origin of the world.
+     */
+    public static ProtoChunk create(final int minY, final int height) {
+        return new ProtoChunk(ChunkPos.ZERO, UpgradeData.EMPTY, LevelHeightAccessor.create(minY, height), createBiomeRegistry(), null);
+    }
+
+    /**
+     * @return A registry with only the plains, used by the chunk sections for their default biome.
+     */
+    private static MappedRegistry<Biome> createBiomeRegistry() {
+        final MappedRegistry<Biome> registry = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        final Biome plains = new Biome.BiomeBuilder()
+                .hasPrecipitation(false)
+                .temperature(0.8F)
+                .downfall(0.4F)
+                .specialEffects(new BiomeSpecialEffects.Builder().fogColor(0xC0D8FF).waterColor(0x3F76E4).waterFogColor(0x050533).skyColor(0x78A7FF).build())
+                .mobSpawnSettings(MobSpawnSettings.EMPTY)
+                .generationSettings(BiomeGenerationSettings.EMPTY)
+                .build();
+        registry.register(Biomes.PLAINS, plains, Lifecycle.stable());
+        return registry;
+    }
+}
@@ -0,0 +1,56 @@
+package org.dawnoftimebuilder;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.lang.reflect.Field;
+
+/**
+ * Prepares the game for the tests and the benchmarks, that run outside of a Forge run : the vanilla registries are
+ * bootstrapped, and the common config is filled with its default values.<p/>
+ * The blocks and the block entity types of the benchmarks are created without being registered, so their registries are
+ * unfrozen to let them create their holders.
+ */
+public final class VanillaBootstrap {
+    private static boolean initialized;
+
+    private VanillaBootstrap() {}
+
+    /**
+     * Must be called in the setup of each test and benchmark, before any block is created. Only the first call does something.
+     */
+    public static synchronized void init() {
+        if(initialized) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        ((MappedRegistry<Block>) BuiltInRegistries.BLOCK).unfreeze();
+        ((MappedRegistry<BlockEntityType<?>>) BuiltInRegistries.BLOCK_ENTITY_TYPE).unfreeze();
+        // An empty config is corrected with the default values.
+        DoTBConfig.COMMON_SPEC.acceptConfig(CommentedConfig.inMemory());
+        initialized = true;
+    }
+
+    /**
+     * Gives its value to a RegistryObject of the mod, since the registries of the mod are only filled in a Forge run.
+     *
+     * @param registryObject RegistryObject read by the code under test.
+     * @param value          Value returned by {@link RegistryObject#get()} from now on.
+     */
+    public static <T> void bind(final RegistryObject<T> registryObject, final T value) {
+        try {
+            final Field field = RegistryObject.class.getDeclaredField("value");
+            field.setAccessible(true);
+            field.set(registryObject, value);
+        } catch(final ReflectiveOperationException exception) {
+            throw new IllegalStateException("Can't bind " + registryObject.getId(), exception);
+        }
+    }
+}
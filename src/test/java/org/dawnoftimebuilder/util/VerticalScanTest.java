@@ -0,0 +1,102 @@
+package org.dawnoftimebuilder.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.dawnoftimebuilder.TestChunks;
+import org.dawnoftimebuilder.VanillaBootstrap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vertical scans in chunks of the vanilla height, of the old height and of the biggest height a dimension can have : the
+ * runs must stop at the build height, cross the borders of the sections, and stop at the sections that contain only air.
+ */
+class VerticalScanTest {
+    private static final Block BLOCK = Blocks.OAK_LOG;
+
+    @BeforeAll
+    static void init() {
+        VanillaBootstrap.init();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-64, 384", "0, 256", "-2032, 4064"})
+    void fullColumnStopsAtBuildHeight(final int minY, final int height) {
+        final ProtoChunk chunk = TestChunks.create(minY, height);
+        final int maxY = VerticalScan.getMaxY(chunk);
+        assertEquals(minY + height - 1, maxY);
+        fill(chunk, 0, minY, maxY);
+        primeHeightmap(chunk);
+
+        assertEquals(maxY, VerticalScan.getRunTopY(chunk, new BlockPos(0, minY, 0), BLOCK));
+        assertEquals(minY, VerticalScan.getRunBottomY(chunk, new BlockPos(0, maxY, 0), BLOCK));
+        // Outside the build height, the scans return the position next to the start.
+        assertEquals(maxY, VerticalScan.getRunTopY(chunk, new BlockPos(0, maxY + 1, 0), BLOCK));
+        assertEquals(minY, VerticalScan.getRunBottomY(chunk, new BlockPos(0, minY - 1, 0), BLOCK));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-64, 384", "0, 256", "-2032, 4064"})
+    void runCrossesSectionBorders(final int minY, final int height) {
+        final ProtoChunk chunk = TestChunks.create(minY, height);
+        // The run covers the 6 top blocks of a section, a whole section and the 6 bottom blocks of the next one.
+        final int sectionBottomY = minY + (height / 32) * 16;
+        final int runBottomY = sectionBottomY - 6;
+        final int runTopY = sectionBottomY + 16 + 5;
+        fill(chunk, 0, runBottomY, runTopY);
+        // Other blocks around the run, so that the scans stop on them instead of the air.
+        chunk.setBlockState(new BlockPos(0, runBottomY - 1, 0), Blocks.STONE.defaultBlockState(), false);
+        chunk.setBlockState(new BlockPos(0, runTopY + 1, 0), Blocks.STONE.defaultBlockState(), false);
+        primeHeightmap(chunk);
+
+        for(int y = runBottomY; y <= runTopY; y++) {
+            assertEquals(runTopY, VerticalScan.getRunTopY(chunk, new BlockPos(0, y, 0), BLOCK), "top of the run from Y " + y);
+            assertEquals(runBottomY, VerticalScan.getRunBottomY(chunk, new BlockPos(0, y, 0), BLOCK), "bottom of the run from Y " + y);
+        }
+        // The block is not at the start : the scans return the position next to the start.
+        assertEquals(runTopY, VerticalScan.getRunTopY(chunk, new BlockPos(0, runTopY + 1, 0), BLOCK));
+        assertEquals(runBottomY, VerticalScan.getRunBottomY(chunk, new BlockPos(0, runBottomY - 1, 0), BLOCK));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-64, 384", "0, 256", "-2032, 4064"})
+    void runStopsAtEmptySections(final int minY, final int height) {
+        final ProtoChunk chunk = TestChunks.create(minY, height);
+        // The run fills a column of a whole section, between two sections that contain only air.
+        final int sectionBottomY = minY + (height / 32) * 16;
+        final int sectionTopY = sectionBottomY + 15;
+        fill(chunk, 0, sectionBottomY, sectionTopY);
+        // Blocks further up and down the column, past the empty sections, so that neither the heightmap nor the build
+        // height ends the scans.
+        chunk.setBlockState(new BlockPos(0, sectionTopY + 17, 0), BLOCK.defaultBlockState(), false);
+        chunk.setBlockState(new BlockPos(0, sectionBottomY - 17, 0), BLOCK.defaultBlockState(), false);
+        primeHeightmap(chunk);
+        assertTrue(chunk.getSection(chunk.getSectionIndex(sectionTopY + 1)).hasOnlyAir());
+        assertTrue(chunk.getSection(chunk.getSectionIndex(sectionBottomY - 1)).hasOnlyAir());
+
+        assertEquals(sectionTopY, VerticalScan.getRunTopY(chunk, new BlockPos(0, sectionBottomY, 0), BLOCK));
+        assertEquals(sectionBottomY, VerticalScan.getRunBottomY(chunk, new BlockPos(0, sectionTopY, 0), BLOCK));
+        // Starting in an empty section.
+        assertEquals(sectionTopY, VerticalScan.getRunTopY(chunk, new BlockPos(0, sectionTopY + 1, 0), BLOCK));
+        assertEquals(sectionBottomY, VerticalScan.getRunBottomY(chunk, new BlockPos(0, sectionBottomY - 1, 0), BLOCK));
+    }
+
+    private static void fill(final ProtoChunk chunk, final int x, final int bottomY, final int topY) {
+        for(int y = bottomY; y <= topY; y++) {
+            chunk.setBlockState(new BlockPos(x, y, 0), BLOCK.defaultBlockState(), false);
+        }
+    }
+
+    private static void primeHeightmap(final ProtoChunk chunk) {
+        Heightmap.primeHeightmaps(chunk, EnumSet.of(Heightmap.Types.WORLD_SURFACE));
+    }
+}